@@ -1,8 +1,17 @@
 package edu.ncsu.csc216.wolf_proceedings.model.conference;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import edu.ncsu.csc216.wolf_proceedings.model.io.ConferenceWriter;
+import edu.ncsu.csc216.wolf_proceedings.model.io.SaveMetrics;
 import edu.ncsu.csc216.wolf_proceedings.model.proceedings.AcceptedItem;
 import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
 import edu.ncsu.csc216.wolf_proceedings.model.util.ISortedList;
@@ -14,10 +23,23 @@ import edu.ncsu.csc216.wolf_proceedings.model.util.SortedList;
  * A conference contains sessions and accepted items (proceedings)
  * and provides operations to manage them.
  * 
+ * Each change made through the conference is reported to its
+ * ConferenceListeners as a ConferenceEvent. Changes made directly to a
+ * session or accepted item are not reported.
+ * 
  * @author Vamsi Gaddipati
  */
 public class Conference {
 
+    /** The columns of a session row: name, duration, and remaining capacity */
+    private static final int[] SESSION_COLUMNS = {0, 1, 2};
+
+    /** The columns of an item row within a session: type, authors, title, and duration */
+    private static final int[] ITEM_IN_SESSION_COLUMNS = {0, 1, 2, 3};
+
+    /** The columns of an item row in the proceedings, which add the session name */
+    private static final int[] ITEM_COLUMNS = {0, 1, 2, 3, 4};
+
     /** The name of the conference */
     private String conferenceName;
 
@@ -30,18 +52,109 @@ public class Conference {
     /** The sorted list of accepted items in the conference */
     private ISortedList<AcceptedItem> proceedings;
 
+    /** The sessions in the conference keyed by name */
+    private Map<String, Session> sessionsByName;
+
+    /** The accepted items in the conference keyed by title and authors */
+    private Map<ItemKey, AcceptedItem> itemsByKey;
+
+    /** The sessions in the conference keyed by remaining capacity */
+    private SessionCapacityIndex capacityIndex;
+
+    /** The listeners told about each change */
+    private List<ConferenceListener> listeners;
+
+    /** The number of batches begun and not yet ended */
+    private int batchDepth;
+
+    /** The events held until the current batch ends */
+    private List<ConferenceEvent> batch;
+
     /**
      * Constructs a Conference with the given name.
      * 
      * @param conferenceName the name of the conference
      */
     public Conference(String conferenceName) {
+    	this(conferenceName, new SortedList<Session>(), new SortedList<AcceptedItem>());
+    }
+
+    /**
+     * Constructs a Conference with the given name that stores its sessions and
+     * proceedings in the given lists. This allows a different ISortedList
+     * implementation, such as ArraySortedList, to be used for large conferences.
+     *
+     * @param conferenceName the name of the conference
+     * @param sessions the empty list to store sessions in
+     * @param proceedings the empty list to store accepted items in
+     * @throws IllegalArgumentException if either list is null or not empty
+     */
+    public Conference(String conferenceName, ISortedList<Session> sessions,
+            ISortedList<AcceptedItem> proceedings) {
     	setConferenceName(conferenceName);
-        sessions = new SortedList<Session>();
-        proceedings = new SortedList<AcceptedItem>();
+    	if (sessions == null || proceedings == null || sessions.size() != 0 || proceedings.size() != 0) {
+    		throw new IllegalArgumentException("Invalid list.");
+    	}
+        this.sessions = sessions;
+        this.proceedings = proceedings;
+        sessionsByName = new HashMap<String, Session>();
+        itemsByKey = new HashMap<ItemKey, AcceptedItem>();
+        capacityIndex = new SessionCapacityIndex();
+        listeners = new ArrayList<ConferenceListener>();
+        batch = new ArrayList<ConferenceEvent>();
         isChanged = true;
     }
 
+    /**
+     * Adds a listener to be told about each change to the conference.
+     * 
+     * @param listener the listener to add
+     */
+    public void addConferenceListener(ConferenceListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener so it is no longer told about changes.
+     * 
+     * @param listener the listener to remove
+     */
+    public void removeConferenceListener(ConferenceListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Begins a batch of changes. Events are held until the matching call to
+     * endBatch and then handed to each listener's batchFinished together.
+     * Batches may be nested; the events are handed over when the outermost
+     * batch ends.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch of changes begun with beginBatch.
+     * 
+     * @throws IllegalStateException if no batch has begun
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch to end.");
+        }
+        batchDepth--;
+        if (batchDepth == 0 && !batch.isEmpty()) {
+            List<ConferenceEvent> events = Collections.unmodifiableList(batch);
+            batch = new ArrayList<ConferenceEvent>();
+            for (ConferenceListener listener : new ArrayList<ConferenceListener>(listeners)) {
+                listener.batchFinished(events);
+            }
+        }
+    }
+
     /**
      * Saves the conference to the given file.
      * 
@@ -64,6 +177,37 @@ public class Conference {
         this.isChanged = false;
     }
 
+    /**
+     * Saves the conference to the given file atomically. The new contents are
+     * written to a temporary file and forced to disk before they replace the
+     * file, so a crash during the save leaves the previous file intact.
+     * 
+     * @param conferenceFile the file to save the conference data to
+     * @return the size of the file and the time taken by each phase of the save
+     * @throws IllegalArgumentException if the file is null or cannot be written
+     */
+    public SaveMetrics saveConferenceAtomic(File conferenceFile) {
+        if (conferenceFile == null) {
+            throw new IllegalArgumentException("File cannot be null.");
+        }
+
+        SaveMetrics metrics = ConferenceWriter.writeConferenceFileAtomic(conferenceFile, getConferenceName(),
+                sessions, proceedings);
+        isChanged = false;
+        return metrics;
+    }
+
+    /**
+     * Renders the conference in the file format as UTF-8 bytes. The snapshot
+     * can be written later on another thread with ConferenceWriter.writeFileAtomic
+     * while the conference keeps changing. The isChanged flag is not affected.
+     * 
+     * @return the bytes of the conference file
+     */
+    public byte[] snapshot() {
+        return ConferenceWriter.renderConference(getConferenceName(), sessions, proceedings);
+    }
+
     /**
      * Returns the name of the conference.
      * 
@@ -114,23 +258,28 @@ public class Conference {
     	        throw new NullPointerException(); 
     	    }
 
-    	 for (int i = 0; i < sessions.size(); i++) {
-    	        if (sessions.get(i).getName().equals(toAdd.getName())) {
-    	            throw new IllegalArgumentException("Cannot add item."); 
-    	        }
-    	    }
+    	 if (sessionsByName.containsKey(toAdd.getName())) {
+    	     throw new IllegalArgumentException("Cannot add item."); 
+    	 }
     	 
     	try {
             sessions.add(toAdd);
-            isChanged = true;
-            return sessions.indexOf(toAdd);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Cannot add item.");
         }
+        sessionsByName.put(toAdd.getName(), toAdd);
+        capacityIndex.add(toAdd);
+        isChanged = true;
+        int idx = sessions.indexOf(toAdd);
+        fire(ConferenceEvent.Type.SESSION_ADDED, -1, idx, -1, -1, -1, -1);
+        return idx;
     }
 
     /**
-     * Edits an existing session in the conference.
+     * Edits an existing session in the conference. If the updated session has
+     * no time slot, it takes the time slot of the session it replaces, so
+     * changing a session's name or duration keeps it in its slot. Use
+     * setSessionTimeSlot with -1 to take a session out of its slot.
      * 
      * @param idx    the index of the session to edit
      * @param toEdit the updated session
@@ -144,23 +293,56 @@ public class Conference {
             throw new NullPointerException();
         }
     	
-    	for (int i = 0; i < sessions.size(); i++) {
-            if (i == idx) continue; // skip the original session
-            if (sessions.get(i).getName().equals(toEdit.getName())) {
-                throw new IllegalArgumentException("Cannot add item."); // duplicate detected
-            }
+        Session original = sessions.get(idx);
+        Session existing = sessionsByName.get(toEdit.getName());
+        if (existing != null && existing != original) {
+            throw new IllegalArgumentException("Cannot add item."); // duplicate detected
         }
 
-        Session original = sessions.get(idx);
         sessions.remove(idx);
+        sessionsByName.remove(original.getName());
+        capacityIndex.remove(original);
         try {
             sessions.add(toEdit);
-            isChanged = true;
-            return sessions.indexOf(toEdit);
         } catch (IllegalArgumentException e) {
             sessions.add(original); // restore original
+            sessionsByName.put(original.getName(), original);
+            capacityIndex.add(original);
             throw new IllegalArgumentException("Cannot add item.");
         }
+        sessionsByName.put(toEdit.getName(), toEdit);
+        capacityIndex.add(toEdit);
+        if (toEdit.getTimeSlot() == -1) {
+            toEdit.setTimeSlot(original.getTimeSlot());
+        }
+        isChanged = true;
+        int newIdx = sessions.indexOf(toEdit);
+        fire(ConferenceEvent.Type.SESSION_EDITED, idx, newIdx, -1, -1, -1, -1);
+        return newIdx;
+    }
+
+    /**
+     * Sets the time slot of the session at the specified index. If the slot
+     * changes, the conference is marked as changed and listeners are told the
+     * session was edited in place. Time slots are kept only while the program
+     * runs; the conference file does not record them.
+     * 
+     * @param idx the index of the session
+     * @param timeSlot the time slot, or -1 to take the session out of its slot
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the time slot is less than -1
+     */
+    public void setSessionTimeSlot(int idx, int timeSlot) {
+        if (idx < 0 || idx >= sessions.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Session session = sessions.get(idx);
+        if (session.getTimeSlot() == timeSlot) {
+            return;
+        }
+        session.setTimeSlot(timeSlot);
+        isChanged = true;
+        fire(ConferenceEvent.Type.SESSION_EDITED, idx, idx, -1, -1, -1, -1);
     }
 
     /**
@@ -172,8 +354,11 @@ public class Conference {
     	 if (idx < 0 || idx >= sessions.size()) {
              throw new IndexOutOfBoundsException();
          }
-         sessions.remove(idx);
+         Session removed = sessions.remove(idx);
+         sessionsByName.remove(removed.getName());
+         capacityIndex.remove(removed);
          isChanged = true;
+         fire(ConferenceEvent.Type.SESSION_REMOVED, idx, -1, -1, -1, -1, -1);
     }
 
     /**
@@ -189,30 +374,77 @@ public class Conference {
         return sessions.get(idx);
     }
 
+    /**
+     * Retrieves the session with the given name.
+     * 
+     * @param name the name of the session to retrieve
+     * @return the session with the given name, or null if there is none
+     */
+    public Session getSessionByName(String name) {
+        return sessionsByName.get(name);
+    }
+
+    /**
+     * Returns the sessions with at least the given number of minutes of
+     * remaining capacity, from the least remaining capacity to the most.
+     * Sessions are kept indexed by remaining capacity as items are assigned,
+     * so this takes O(log n) time plus the number of sessions returned.
+     * 
+     * @param minutes the time needed
+     * @return the sessions that can fit an item of the given duration
+     */
+    public List<Session> findSessionsWithCapacity(int minutes) {
+        return Collections.unmodifiableList(capacityIndex.atLeast(minutes));
+    }
+
+    /**
+     * Returns the session with the least remaining capacity that can still fit
+     * the given number of minutes, in O(log n) time.
+     * 
+     * @param minutes the time needed
+     * @return the best fitting session, or null if no session has room
+     */
+    public Session findBestFitSession(int minutes) {
+        return capacityIndex.bestFit(minutes);
+    }
+
+    /**
+     * Returns the session with the most remaining capacity if it can fit the
+     * given number of minutes, in O(log n) time.
+     * 
+     * @param minutes the time needed
+     * @return the worst fitting session, or null if no session has room
+     */
+    public Session findWorstFitSession(int minutes) {
+        return capacityIndex.worstFit(minutes);
+    }
+
     /**
      * Adds an accepted item to the conference proceedings.
      * 
      * @param toAdd the accepted item to add
+     * @return the index at which the accepted item was added
      */
-    public void addAcceptedItem(AcceptedItem toAdd) {
+    public int addAcceptedItem(AcceptedItem toAdd) {
     	if (toAdd == null) {
             throw new NullPointerException();
         }
     	
-    	for (int i = 0; i < proceedings.size(); i++) {
-    	    AcceptedItem a = proceedings.get(i);
-    	    if (a.getTitle().equals(toAdd.getTitle()) && a.getAuthors().equals(toAdd.getAuthors())) {
-    	        throw new IllegalArgumentException("Cannot add item.");
-    	    }
+    	ItemKey key = new ItemKey(toAdd.getTitle(), toAdd.getAuthors());
+    	if (itemsByKey.containsKey(key)) {
+    	    throw new IllegalArgumentException("Cannot add item.");
     	}
     	
     	try {
             proceedings.add(toAdd);
-            isChanged = true;
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Cannot add item.");
         }
-    	
+        itemsByKey.put(key, toAdd);
+        isChanged = true;
+        int idx = proceedings.indexOf(toAdd);
+        fire(ConferenceEvent.Type.ITEM_ADDED, -1, -1, -1, idx, -1, -1);
+        return idx;
     }
 
     /**
@@ -220,8 +452,9 @@ public class Conference {
      * 
      * @param idx    the index of the accepted item to edit
      * @param toEdit the updated accepted item
+     * @return the index of the edited accepted item
      */
-    public void editAcceptedItem(int idx, AcceptedItem toEdit) {
+    public int editAcceptedItem(int idx, AcceptedItem toEdit) {
     	if (idx < 0 || idx >= proceedings.size()) {
             throw new IndexOutOfBoundsException();
         }
@@ -229,24 +462,29 @@ public class Conference {
             throw new NullPointerException();
         }    	
     	
-    	for (int i = 0; i < proceedings.size(); i++) {
-            if (i == idx) continue; // skip the original item
-            AcceptedItem a = proceedings.get(i);
-            if (a.getTitle().equals(toEdit.getTitle()) && a.getAuthors().equals(toEdit.getAuthors())) {
-                throw new IllegalArgumentException("Cannot add item."); // duplicate detected
-            }
+        AcceptedItem original = proceedings.get(idx);
+        ItemKey key = new ItemKey(toEdit.getTitle(), toEdit.getAuthors());
+        AcceptedItem existing = itemsByKey.get(key);
+        if (existing != null && existing != original) {
+            throw new IllegalArgumentException("Cannot add item."); // duplicate detected
         }
 
-        AcceptedItem original = proceedings.get(idx);
+        ItemKey originalKey = new ItemKey(original.getTitle(), original.getAuthors());
         proceedings.remove(idx);
+        itemsByKey.remove(originalKey);
              
         try {
             proceedings.add(toEdit);
-            isChanged = true;
         } catch (IllegalArgumentException e) {
             proceedings.add(original); // restore original
+            itemsByKey.put(originalKey, original);
             throw new IllegalArgumentException("Cannot add item.");
         }
+        itemsByKey.put(key, toEdit);
+        isChanged = true;
+        int newIdx = proceedings.indexOf(toEdit);
+        fire(ConferenceEvent.Type.ITEM_EDITED, -1, -1, idx, newIdx, -1, -1);
+        return newIdx;
     }
 
     /**
@@ -258,10 +496,163 @@ public class Conference {
     	if (idx < 0 || idx >= proceedings.size()) {
             throw new IndexOutOfBoundsException();
         }
-        proceedings.remove(idx);
+        AcceptedItem removed = proceedings.remove(idx);
+        itemsByKey.remove(new ItemKey(removed.getTitle(), removed.getAuthors()));
         isChanged = true;
+        fire(ConferenceEvent.Type.ITEM_REMOVED, -1, -1, idx, -1, -1, -1);
+    }
+
+    /**
+     * Retrieves the accepted item at the specified index in the proceedings.
+     * 
+     * @param idx the index of the accepted item to retrieve
+     * @return the accepted item at the specified index
+     */
+    public AcceptedItem getAcceptedItem(int idx) {
+    	if (idx < 0 || idx >= proceedings.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return proceedings.get(idx);
+    }
+
+    /**
+     * Finds the accepted item in the conference proceedings with the given
+     * title and authors.
+     * 
+     * @param title the title of the accepted item
+     * @param authors the authors of the accepted item
+     * @return the matching accepted item, or null if there is none
+     */
+    public AcceptedItem findAcceptedItem(String title, String authors) {
+        return itemsByKey.get(new ItemKey(title, authors));
+    }
+
+    /**
+     * Returns the index of the given accepted item in the conference
+     * proceedings.
+     * 
+     * @param item the accepted item to search for
+     * @return the index of the accepted item, or -1 if it is not in the proceedings
+     */
+    public int indexOfAcceptedItem(AcceptedItem item) {
+        if (item == null || itemsByKey.get(new ItemKey(item.getTitle(), item.getAuthors())) != item) {
+            return -1;
+        }
+        return proceedings.indexOf(item);
     }
     
+    /**
+     * Adds a batch of sessions and accepted items to the conference at once,
+     * as when loading a conference file. The sessions and items are sorted once
+     * and merged into the conference instead of being inserted one at a time.
+     * 
+     * Sessions and items are considered in the given order, and the result is
+     * the same as adding them one at a time: a session whose name is already
+     * used is skipped, as is an item whose title and authors are already used
+     * or whose session was skipped. Sessions are matched by identity, so an
+     * item mapped to a session that has since been edited or removed is
+     * skipped too. Each item mapped to a session is then added
+     * to that session, and stays unassigned if the session does not have
+     * enough remaining capacity.
+     * 
+     * The sessions and items are checked and merged into the conference's
+     * lists before anything else changes, so if the lists reject them the
+     * conference is left as it was.
+     * 
+     * @param newSessions the sessions to add
+     * @param newItems the accepted items to add, in order, mapped to the session
+     *        each should be added to or to null if it is unassigned
+     * @throws NullPointerException if any accepted item is null
+     * @throws IllegalArgumentException if the lists reject a session or item
+     */
+    public void addAll(List<Session> newSessions, Map<AcceptedItem, Session> newItems) {
+        Map<String, Session> addedSessions = new HashMap<String, Session>();
+        List<Session> sessionsToAdd = new ArrayList<Session>();
+        for (Session s : newSessions) {
+            if (s != null && !sessionsByName.containsKey(s.getName()) && !addedSessions.containsKey(s.getName())) {
+                addedSessions.put(s.getName(), s);
+                sessionsToAdd.add(s);
+            }
+        }
+
+        Map<ItemKey, AcceptedItem> addedItems = new HashMap<ItemKey, AcceptedItem>();
+        List<AcceptedItem> itemsToAdd = new ArrayList<AcceptedItem>();
+        List<Session> sessionOfItem = new ArrayList<Session>();
+        for (Map.Entry<AcceptedItem, Session> entry : newItems.entrySet()) {
+            AcceptedItem item = entry.getKey();
+            Session session = entry.getValue();
+            if (item == null) {
+                throw new NullPointerException();
+            }
+            if (session != null) {
+                Session known = addedSessions.get(session.getName());
+                if (known == null) {
+                    known = sessionsByName.get(session.getName());
+                }
+                if (known != session) {
+                    continue; // the session was not added
+                }
+            }
+            ItemKey key = new ItemKey(item.getTitle(), item.getAuthors());
+            if (itemsByKey.containsKey(key) || addedItems.containsKey(key)) {
+                continue;
+            }
+            addedItems.put(key, item);
+            itemsToAdd.add(item);
+            sessionOfItem.add(session);
+        }
+
+        try {
+            sessions.addAll(sessionsToAdd);
+        } catch (RuntimeException e) {
+            removeAdded(sessions, sessionsToAdd);
+            throw e;
+        }
+        try {
+            proceedings.addAll(itemsToAdd);
+        } catch (RuntimeException e) {
+            removeAdded(proceedings, itemsToAdd);
+            removeAdded(sessions, sessionsToAdd);
+            throw e;
+        }
+
+        sessionsByName.putAll(addedSessions);
+        itemsByKey.putAll(addedItems);
+        for (int i = 0; i < itemsToAdd.size(); i++) {
+            Session session = sessionOfItem.get(i);
+            if (session != null) {
+                try {
+                    session.addAcceptedItem(itemsToAdd.get(i));
+                } catch (IllegalArgumentException e) {
+                    // not enough room, so the item stays unassigned
+                }
+            }
+        }
+        for (Session s : sessionsToAdd) {
+            capacityIndex.add(s);
+        }
+        isChanged = true;
+        fire(ConferenceEvent.Type.CONTENTS_ADDED, -1, -1, -1, -1, -1, -1);
+    }
+
+    /**
+     * Removes from a list any of the given elements it holds, undoing a bulk
+     * add that failed partway through. Lists that merge all at once are
+     * unchanged by a failed add, so nothing is found.
+     * 
+     * @param <E> the type of the elements
+     * @param list the list to undo the add in
+     * @param added the elements that were being added
+     */
+    private static <E extends Comparable<E>> void removeAdded(ISortedList<E> list, List<E> added) {
+        for (E element : added) {
+            int idx = list.indexOf(element);
+            if (idx >= 0) {
+                list.remove(idx);
+            }
+        }
+    }
+
     /**
      * Adds an accepted item from the conference proceedings to a session.
      * 
@@ -279,15 +670,76 @@ public class Conference {
 
             try {
                 session.addAcceptedItem(item);
-                isChanged = true;
             } catch (IllegalArgumentException e) {
                 throw new IllegalArgumentException("Cannot add item.");
             }
+            isChanged = true;
+            fire(ConferenceEvent.Type.ITEM_ASSIGNED, sessionIdx, sessionIdx, itemIdx, itemIdx, -1,
+                    session.getItemList().size() - 1);
+    }
+
+    /**
+     * Adds accepted items to sessions the caller already holds, as when
+     * applying a planned schedule. Looking a session or item up by index
+     * walks a linked list, so taking the objects makes each assignment cost
+     * the same however large the conference is. The indexes are only used
+     * for the events, which are the same ITEM_ASSIGNED events
+     * addItemToSession fires, handed to listeners as one batch.
+     *
+     * Every session and item is checked to be in the conference, every item
+     * to be unassigned and listed once, and every session to have room for
+     * the items given to it before anything is assigned, so if the
+     * assignments are rejected the conference is left as it was.
+     *
+     * @param sessionIdxs the index of the session of each assignment
+     * @param toSessions the session of each assignment, which must be at its index
+     * @param itemIdxs the proceedings index of the item of each assignment
+     * @param toAssign the item of each assignment, which must be at its index
+     * @throws IllegalArgumentException if the arrays differ in length, or an
+     *         assignment names a session or item not in the conference, an
+     *         item already in a session, or more minutes than a session has left
+     */
+    public void addItemsToSessions(int[] sessionIdxs, Session[] toSessions, int[] itemIdxs,
+            AcceptedItem[] toAssign) {
+        int n = toAssign.length;
+        if (sessionIdxs.length != n || toSessions.length != n || itemIdxs.length != n) {
+            throw new IllegalArgumentException("Cannot add item.");
+        }
+        Map<Session, Integer> needed = new IdentityHashMap<Session, Integer>();
+        Map<AcceptedItem, Boolean> seen = new IdentityHashMap<AcceptedItem, Boolean>();
+        for (int i = 0; i < n; i++) {
+            Session session = toSessions[i];
+            AcceptedItem item = toAssign[i];
+            if (session == null || sessionsByName.get(session.getName()) != session || item == null
+                    || itemsByKey.get(new ItemKey(item.getTitle(), item.getAuthors())) != item
+                    || item.getSession() != null || seen.put(item, Boolean.TRUE) != null) {
+                throw new IllegalArgumentException("Cannot add item.");
+            }
+            Integer minutes = needed.get(session);
+            needed.put(session, (minutes == null ? 0 : minutes) + item.getDuration());
+        }
+        for (Map.Entry<Session, Integer> entry : needed.entrySet()) {
+            if (entry.getValue() > entry.getKey().getRemainingCapacity()) {
+                throw new IllegalArgumentException("Cannot add item.");
+            }
+        }
+
+        beginBatch();
+        try {
+            for (int i = 0; i < n; i++) {
+                toSessions[i].addAcceptedItem(toAssign[i]);
+                isChanged = true;
+                fire(ConferenceEvent.Type.ITEM_ASSIGNED, sessionIdxs[i], sessionIdxs[i], itemIdxs[i], itemIdxs[i],
+                        -1, toSessions[i].getItemList().size() - 1);
+            }
+        } finally {
+            endBatch();
+        }
     }
 
     /**
      * Removes an accepted item from a session.
-     * 
+     *
      * @param sessionIdx the index of the session to remove the item from
      * @param itemIdx the index of the accepted item within the session
      */
@@ -297,8 +749,108 @@ public class Conference {
         }
 
         Session session = sessions.get(sessionIdx);
-        session.removeAcceptedItem((itemIdx));
-        isChanged = true;    }
+        AcceptedItem item = session.getItemList().get(itemIdx);
+        session.removeAcceptedItem(itemIdx);
+        isChanged = true;
+        if (!listeners.isEmpty()) {
+            int proceedingsIdx = indexOfAcceptedItem(item);
+            fire(ConferenceEvent.Type.ITEM_UNASSIGNED, sessionIdx, sessionIdx, proceedingsIdx, proceedingsIdx,
+                    itemIdx, -1);
+        }
+    }
+
+    /**
+     * Moves an accepted item one place earlier in its session.
+     * 
+     * @param sessionIdx the index of the session
+     * @param itemIdx the index of the accepted item within the session
+     * @return the new index of the accepted item within the session
+     */
+    public int moveItemUp(int sessionIdx, int itemIdx) {
+        getSession(sessionIdx).getItemList().moveUp(itemIdx);
+        return itemMoved(sessionIdx, itemIdx, Math.max(0, itemIdx - 1));
+    }
+
+    /**
+     * Moves an accepted item one place later in its session.
+     * 
+     * @param sessionIdx the index of the session
+     * @param itemIdx the index of the accepted item within the session
+     * @return the new index of the accepted item within the session
+     */
+    public int moveItemDown(int sessionIdx, int itemIdx) {
+        ISwapList<AcceptedItem> items = getSession(sessionIdx).getItemList();
+        items.moveDown(itemIdx);
+        return itemMoved(sessionIdx, itemIdx, Math.min(items.size() - 1, itemIdx + 1));
+    }
+
+    /**
+     * Moves an accepted item to the front of its session.
+     * 
+     * @param sessionIdx the index of the session
+     * @param itemIdx the index of the accepted item within the session
+     * @return the new index of the accepted item within the session
+     */
+    public int moveItemToFront(int sessionIdx, int itemIdx) {
+        getSession(sessionIdx).getItemList().moveToFront(itemIdx);
+        return itemMoved(sessionIdx, itemIdx, 0);
+    }
+
+    /**
+     * Moves an accepted item to the back of its session.
+     * 
+     * @param sessionIdx the index of the session
+     * @param itemIdx the index of the accepted item within the session
+     * @return the new index of the accepted item within the session
+     */
+    public int moveItemToBack(int sessionIdx, int itemIdx) {
+        ISwapList<AcceptedItem> items = getSession(sessionIdx).getItemList();
+        items.moveToBack(itemIdx);
+        return itemMoved(sessionIdx, itemIdx, items.size() - 1);
+    }
+
+    /**
+     * Records that an accepted item was moved within its session.
+     * 
+     * @param sessionIdx the index of the session
+     * @param from the index the item was moved from
+     * @param to the index the item was moved to
+     * @return the index the item was moved to
+     */
+    private int itemMoved(int sessionIdx, int from, int to) {
+        if (from != to) {
+            isChanged = true;
+            fire(ConferenceEvent.Type.ITEM_REORDERED, sessionIdx, sessionIdx, -1, -1, from, to);
+        }
+        return to;
+    }
+
+    /**
+     * Tells the listeners about a change, or holds the event if a batch is open.
+     * 
+     * @param type the kind of change
+     * @param oldSessionIndex the index of the session before the change
+     * @param sessionIndex the index of the session after the change
+     * @param oldItemIndex the index of the accepted item before the change
+     * @param itemIndex the index of the accepted item after the change
+     * @param oldPosition the position of the item in its session before the change
+     * @param position the position of the item in its session after the change
+     */
+    private void fire(ConferenceEvent.Type type, int oldSessionIndex, int sessionIndex, int oldItemIndex,
+            int itemIndex, int oldPosition, int position) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        ConferenceEvent event = new ConferenceEvent(this, type, oldSessionIndex, sessionIndex, oldItemIndex,
+                itemIndex, oldPosition, position);
+        if (batchDepth > 0) {
+            batch.add(event);
+            return;
+        }
+        for (ConferenceListener listener : new ArrayList<ConferenceListener>(listeners)) {
+            listener.conferenceChanged(event);
+        }
+    }
 
     /**
      * Returns all sessions in the conference as a 2D array of Strings.
@@ -306,16 +858,86 @@ public class Conference {
      * @return a 2D array of Strings representing all sessions
      */
     public String[][] getSessionsAsArray() {
-    	String[][] arr = new String[sessions.size()][3];
-        for (int i = 0; i < sessions.size(); i++) {
-            Session s = sessions.get(i);
-            arr[i][0] = s.getName();
-            arr[i][1] = String.valueOf(s.getDuration());
-            arr[i][2] = String.valueOf(s.getRemainingCapacity());
+    	String[][] arr = new String[sessions.size()][];
+        int i = 0;
+        for (Session s : sessions) {
+            arr[i++] = sessionRow(s, SESSION_COLUMNS);
         }
         return arr;
     }
 
+    /**
+     * Returns a page of the sessions in the conference, in the same form as
+     * getSessionsAsArray. Only the rows of the page are built, and on an
+     * indexable list of sessions the page is found in O(log n) time.
+     * 
+     * @param offset the index of the first session to return
+     * @param limit the most sessions to return
+     * @return a 2D array of Strings representing up to limit sessions
+     * @throws IndexOutOfBoundsException if the offset is less than 0 or greater
+     *         than the number of sessions
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public String[][] getSessionsAsArray(int offset, int limit) {
+        return getSessionsAsArray(offset, limit, SESSION_COLUMNS);
+    }
+
+    /**
+     * Returns the given columns of a page of the sessions in the conference.
+     * 
+     * @param offset the index of the first session to return
+     * @param limit the most sessions to return
+     * @param columns the columns to return, in order: 0 for the name, 1 for
+     *        the duration, and 2 for the remaining capacity
+     * @return a 2D array of Strings with one row per session and one entry per
+     *         requested column
+     * @throws IndexOutOfBoundsException if the offset is less than 0 or greater
+     *         than the number of sessions, or a column is out of range
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public String[][] getSessionsAsArray(int offset, int limit, int[] columns) {
+        checkColumns(columns, SESSION_COLUMNS.length);
+        String[][] arr = new String[pageSize(sessions.size(), offset, limit)][];
+        Iterator<Session> it = sessions.iterator(offset);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = sessionRow(it.next(), columns);
+        }
+        return arr;
+    }
+
+    /**
+     * Returns the number of sessions in the conference.
+     * 
+     * @return the number of sessions
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Returns one cell of the session at the given index, in the same form as
+     * the cell of getSessionsAsArray, without building the rest of the row.
+     * 
+     * @param idx the index of the session
+     * @param col 0 for the name, 1 for the duration, or 2 for the remaining capacity
+     * @return the value of the cell
+     * @throws IndexOutOfBoundsException if the index or column is out of range
+     */
+    public String getSessionValue(int idx, int col) {
+        return sessionCell(getSession(idx), col);
+    }
+
+    /**
+     * Returns the session at the given index as an array of Strings, in the
+     * same form as a row of getSessionsAsArray.
+     * 
+     * @param idx the index of the session
+     * @return the name, duration, and remaining capacity of the session
+     */
+    public String[] getSessionAsArray(int idx) {
+        return sessionRow(getSession(idx), SESSION_COLUMNS);
+    }
+
     /**
      * Returns all accepted items within a specific session as a 2D array of Strings.
      * 
@@ -328,17 +950,95 @@ public class Conference {
         }
         Session s = sessions.get(idx);
         ISwapList<AcceptedItem> items = s.getItemList();
-        String[][] arr = new String[items.size()][4];
-        for (int i = 0; i < items.size(); i++) {
-            AcceptedItem a = items.get(i);
-            arr[i][0] = a.getType();
-            arr[i][1] = a.getAuthors();
-            arr[i][2] = a.getTitle();
-            arr[i][3] = String.valueOf(a.getDuration());
+        String[][] arr = new String[items.size()][];
+        int i = 0;
+        for (AcceptedItem a : items) {
+            arr[i++] = itemRow(a, ITEM_IN_SESSION_COLUMNS);
+        }
+        return arr;
+    }
+
+    /**
+     * Returns a page of the accepted items within a specific session, in the
+     * same form as getAcceptedItemsInSessionAsArray.
+     * 
+     * @param idx the index of the session in the conference
+     * @param offset the index within the session of the first item to return
+     * @param limit the most items to return
+     * @return a 2D array of Strings representing up to limit accepted items
+     * @throws IndexOutOfBoundsException if the index is out of range, or the
+     *         offset is less than 0 or greater than the number of items in the session
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public String[][] getAcceptedItemsInSessionAsArray(int idx, int offset, int limit) {
+        return getAcceptedItemsInSessionAsArray(idx, offset, limit, ITEM_IN_SESSION_COLUMNS);
+    }
+
+    /**
+     * Returns the given columns of a page of the accepted items within a
+     * specific session.
+     * 
+     * @param idx the index of the session in the conference
+     * @param offset the index within the session of the first item to return
+     * @param limit the most items to return
+     * @param columns the columns to return, in order: 0 for the type, 1 for
+     *        the authors, 2 for the title, and 3 for the duration
+     * @return a 2D array of Strings with one row per accepted item and one
+     *         entry per requested column
+     * @throws IndexOutOfBoundsException if the index is out of range, the
+     *         offset is less than 0 or greater than the number of items in the
+     *         session, or a column is out of range
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public String[][] getAcceptedItemsInSessionAsArray(int idx, int offset, int limit, int[] columns) {
+        checkColumns(columns, ITEM_IN_SESSION_COLUMNS.length);
+        ISwapList<AcceptedItem> items = getSession(idx).getItemList();
+        String[][] arr = new String[pageSize(items.size(), offset, limit)][];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = itemRow(items.get(offset + i), columns);
         }
         return arr;
     }
 
+    /**
+     * Returns the number of accepted items in a specific session.
+     * 
+     * @param idx the index of the session in the conference
+     * @return the number of accepted items in the session
+     */
+    public int getAcceptedItemsInSessionCount(int idx) {
+        return getSession(idx).getItemList().size();
+    }
+
+    /**
+     * Returns one cell of an accepted item within a specific session, in the
+     * same form as the cell of getAcceptedItemsInSessionAsArray.
+     * 
+     * @param sessionIdx the index of the session in the conference
+     * @param itemIdx the index of the accepted item within the session
+     * @param col 0 for the type, 1 for the authors, 2 for the title, or 3 for the duration
+     * @return the value of the cell
+     * @throws IndexOutOfBoundsException if an index or the column is out of range
+     */
+    public String getAcceptedItemInSessionValue(int sessionIdx, int itemIdx, int col) {
+        if (col >= ITEM_IN_SESSION_COLUMNS.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        return itemCell(getSession(sessionIdx).getItemList().get(itemIdx), col);
+    }
+
+    /**
+     * Returns one accepted item within a specific session as an array of
+     * Strings, in the same form as a row of getAcceptedItemsInSessionAsArray.
+     * 
+     * @param sessionIdx the index of the session in the conference
+     * @param itemIdx the index of the accepted item within the session
+     * @return the type, authors, title, and duration of the accepted item
+     */
+    public String[] getAcceptedItemInSessionAsArray(int sessionIdx, int itemIdx) {
+        return itemRow(getSession(sessionIdx).getItemList().get(itemIdx), ITEM_IN_SESSION_COLUMNS);
+    }
+
     /**
      * Returns all accepted items in the conference (not assigned to sessions)
      * as a 2D array of Strings.
@@ -346,14 +1046,257 @@ public class Conference {
      * @return a 2D array of Strings representing all accepted items
      */
     public String[][] getAcceptedItemsAsArray() {
-    	String[][] arr = new String[proceedings.size()][5];
-        for (int i = 0; i < proceedings.size(); i++) {
-            AcceptedItem a = proceedings.get(i);
-            arr[i][0] = a.getType();
-            arr[i][1] = a.getAuthors();
-            arr[i][2] = a.getTitle();
-            arr[i][3] = String.valueOf(a.getDuration());
-            arr[i][4] = a.getSession() == null ? "" : a.getSession().getName();
-        }
-        return arr;    }    
+    	String[][] arr = new String[proceedings.size()][];
+        int i = 0;
+        for (AcceptedItem a : proceedings) {
+            arr[i++] = itemRow(a, ITEM_COLUMNS);
+        }
+        return arr;
+    }
+
+    /**
+     * Returns a page of the accepted items in the conference, in the same form
+     * as getAcceptedItemsAsArray. Only the rows of the page are built, and on
+     * an indexable list of proceedings the page is found in O(log n) time.
+     * 
+     * @param offset the index of the first accepted item to return
+     * @param limit the most accepted items to return
+     * @return a 2D array of Strings representing up to limit accepted items
+     * @throws IndexOutOfBoundsException if the offset is less than 0 or greater
+     *         than the number of accepted items
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public String[][] getAcceptedItemsAsArray(int offset, int limit) {
+        return getAcceptedItemsAsArray(offset, limit, ITEM_COLUMNS);
+    }
+
+    /**
+     * Returns the given columns of a page of the accepted items in the
+     * conference.
+     * 
+     * @param offset the index of the first accepted item to return
+     * @param limit the most accepted items to return
+     * @param columns the columns to return, in order: 0 for the type, 1 for
+     *        the authors, 2 for the title, 3 for the duration, and 4 for the
+     *        name of its session
+     * @return a 2D array of Strings with one row per accepted item and one
+     *         entry per requested column
+     * @throws IndexOutOfBoundsException if the offset is less than 0 or greater
+     *         than the number of accepted items, or a column is out of range
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public String[][] getAcceptedItemsAsArray(int offset, int limit, int[] columns) {
+        checkColumns(columns, ITEM_COLUMNS.length);
+        String[][] arr = new String[pageSize(proceedings.size(), offset, limit)][];
+        Iterator<AcceptedItem> it = proceedings.iterator(offset);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = itemRow(it.next(), columns);
+        }
+        return arr;
+    }
+
+    /**
+     * Returns the number of accepted items in the conference proceedings.
+     * 
+     * @return the number of accepted items
+     */
+    public int getAcceptedItemCount() {
+        return proceedings.size();
+    }
+
+    /**
+     * Returns one cell of the accepted item at the given index in the
+     * proceedings, in the same form as the cell of getAcceptedItemsAsArray,
+     * without building the rest of the row.
+     * 
+     * @param idx the index of the accepted item
+     * @param col 0 for the type, 1 for the authors, 2 for the title, 3 for the
+     *        duration, or 4 for the name of its session
+     * @return the value of the cell
+     * @throws IndexOutOfBoundsException if the index or column is out of range
+     */
+    public String getAcceptedItemValue(int idx, int col) {
+        if (idx < 0 || idx >= proceedings.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return itemCell(proceedings.get(idx), col);
+    }
+
+    /**
+     * Returns the accepted item at the given index in the proceedings as an
+     * array of Strings, in the same form as a row of getAcceptedItemsAsArray.
+     * 
+     * @param idx the index of the accepted item
+     * @return the type, authors, title, duration, and session of the accepted item
+     */
+    public String[] getAcceptedItemAsArray(int idx) {
+        if (idx < 0 || idx >= proceedings.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return itemRow(proceedings.get(idx), ITEM_COLUMNS);
+    }
+
+    /**
+     * Returns a session as a row of Strings.
+     * 
+     * @param s the session
+     * @param columns the columns to include, in order
+     * @return the requested cells of the session
+     */
+    private static String[] sessionRow(Session s, int[] columns) {
+        String[] row = new String[columns.length];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = sessionCell(s, columns[i]);
+        }
+        return row;
+    }
+
+    /**
+     * Returns one cell of a session's row.
+     * 
+     * @param s the session
+     * @param col the column of the cell
+     * @return the name, duration, or remaining capacity of the session
+     * @throws IndexOutOfBoundsException if the column is out of range
+     */
+    private static String sessionCell(Session s, int col) {
+        switch (col) {
+            case 0:
+                return s.getName();
+            case 1:
+                return String.valueOf(s.getDuration());
+            case 2:
+                return String.valueOf(s.getRemainingCapacity());
+            default:
+                throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Returns an accepted item as a row of Strings.
+     * 
+     * @param a the accepted item
+     * @param columns the columns to include, in order
+     * @return the requested cells of the accepted item
+     */
+    private static String[] itemRow(AcceptedItem a, int[] columns) {
+        String[] row = new String[columns.length];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = itemCell(a, columns[i]);
+        }
+        return row;
+    }
+
+    /**
+     * Returns the number of rows in a page and checks its bounds.
+     * 
+     * @param size the number of rows in the whole list
+     * @param offset the index of the first row of the page
+     * @param limit the most rows the page may have
+     * @return the number of rows in the page
+     * @throws IndexOutOfBoundsException if the offset is less than 0 or greater than the size
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    private static int pageSize(int size, int offset, int limit) {
+        if (offset < 0 || offset > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Invalid limit.");
+        }
+        return Math.min(limit, size - offset);
+    }
+
+    /**
+     * Checks that each requested column exists.
+     * 
+     * @param columns the requested columns
+     * @param count the number of columns in a full row
+     * @throws IndexOutOfBoundsException if a column is out of range
+     */
+    private static void checkColumns(int[] columns, int count) {
+        for (int col : columns) {
+            if (col < 0 || col >= count) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+    }
+
+    /**
+     * Returns one cell of an accepted item's row.
+     * 
+     * @param a the accepted item
+     * @param col the column of the cell
+     * @return the type, authors, title, duration, or session name of the item
+     * @throws IndexOutOfBoundsException if the column is out of range
+     */
+    private static String itemCell(AcceptedItem a, int col) {
+        switch (col) {
+            case 0:
+                return a.getType();
+            case 1:
+                return a.getAuthors();
+            case 2:
+                return a.getTitle();
+            case 3:
+                return String.valueOf(a.getDuration());
+            case 4:
+                return a.getSession() == null ? "" : a.getSession().getName();
+            default:
+                throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Key for looking up accepted items by title and authors, the pair of
+     * fields that must be unique among the conference proceedings.
+     */
+    private static final class ItemKey {
+
+        /** The title of the accepted item */
+        private final String title;
+
+        /** The authors of the accepted item */
+        private final String authors;
+
+        /**
+         * Constructs an ItemKey for the given title and authors.
+         * 
+         * @param title the title of the accepted item
+         * @param authors the authors of the accepted item
+         */
+        ItemKey(String title, String authors) {
+            this.title = title;
+            this.authors = authors;
+        }
+
+        /**
+         * Returns a hash code built from the title and authors.
+         * 
+         * @return the hash code for this key
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(title, authors);
+        }
+
+        /**
+         * Returns true if the other object is an ItemKey with the same title
+         * and authors.
+         * 
+         * @param obj the object to compare to
+         * @return true if the keys are equal
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ItemKey)) {
+                return false;
+            }
+            ItemKey other = (ItemKey) obj;
+            return Objects.equals(title, other.title) && Objects.equals(authors, other.authors);
+        }
+    }
 }
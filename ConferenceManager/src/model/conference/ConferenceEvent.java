@@ -0,0 +1,195 @@
+package edu.ncsu.csc216.wolf_proceedings.model.conference;
+
+/**
+ * Describes one change to a conference. Each event has a type and the indexes
+ * of what changed, taken at the time of the change, so listeners can update
+ * their own copies one row at a time by applying events in order.
+ *
+ * Indexes come in old and new pairs. An added element has an old index of -1,
+ * a removed element has a new index of -1, and an edited element has both,
+ * since editing may move it to a different place in the sorted list. Session
+ * indexes are into the conference's sessions, item indexes are into the
+ * conference proceedings, and positions are into the item list of a session.
+ * Indexes that do not apply to a type of event are -1.
+ *
+ * @author Vamsi Gaddipati
+ */
+public class ConferenceEvent {
+
+    /**
+     * The kinds of change a conference reports.
+     */
+    public enum Type {
+        /** A session was added; the new session index is set */
+        SESSION_ADDED,
+        /** A session was replaced; the old and new session indexes are set */
+        SESSION_EDITED,
+        /** A session was removed; the old session index is set */
+        SESSION_REMOVED,
+        /** An accepted item was added; the new item index is set */
+        ITEM_ADDED,
+        /** An accepted item was replaced; the old and new item indexes are set */
+        ITEM_EDITED,
+        /** An accepted item was removed; the old item index is set */
+        ITEM_REMOVED,
+        /**
+         * An accepted item was added to a session; the session index, the
+         * item index, and the new position are set
+         */
+        ITEM_ASSIGNED,
+        /**
+         * An accepted item was removed from a session; the session index, the
+         * item index, and the old position are set
+         */
+        ITEM_UNASSIGNED,
+        /**
+         * An accepted item was moved within a session; the session index and
+         * the old and new positions are set, and every item between the two
+         * positions may have moved
+         */
+        ITEM_REORDERED,
+        /**
+         * Many sessions and accepted items were added at once, as when loading
+         * a file; no indexes are set and listeners should read the conference
+         * again
+         */
+        CONTENTS_ADDED
+    }
+
+    /** The conference that changed */
+    private final Conference conference;
+
+    /** The kind of change */
+    private final Type type;
+
+    /** The index of the session before the change */
+    private final int oldSessionIndex;
+
+    /** The index of the session after the change */
+    private final int sessionIndex;
+
+    /** The index of the accepted item before the change */
+    private final int oldItemIndex;
+
+    /** The index of the accepted item after the change */
+    private final int itemIndex;
+
+    /** The position of the accepted item in its session before the change */
+    private final int oldPosition;
+
+    /** The position of the accepted item in its session after the change */
+    private final int position;
+
+    /**
+     * Constructs an event. Conference creates events for its own changes.
+     *
+     * @param conference the conference that changed
+     * @param type the kind of change
+     * @param oldSessionIndex the index of the session before the change
+     * @param sessionIndex the index of the session after the change
+     * @param oldItemIndex the index of the accepted item before the change
+     * @param itemIndex the index of the accepted item after the change
+     * @param oldPosition the position of the item in its session before the change
+     * @param position the position of the item in its session after the change
+     */
+    ConferenceEvent(Conference conference, Type type, int oldSessionIndex, int sessionIndex,
+            int oldItemIndex, int itemIndex, int oldPosition, int position) {
+        this.conference = conference;
+        this.type = type;
+        this.oldSessionIndex = oldSessionIndex;
+        this.sessionIndex = sessionIndex;
+        this.oldItemIndex = oldItemIndex;
+        this.itemIndex = itemIndex;
+        this.oldPosition = oldPosition;
+        this.position = position;
+    }
+
+    /**
+     * Returns the conference that changed.
+     *
+     * @return the source of the event
+     */
+    public Conference getConference() {
+        return conference;
+    }
+
+    /**
+     * Returns the kind of change.
+     *
+     * @return the type of the event
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the index of the session before the change.
+     *
+     * @return the old session index, or -1 if the session was added or the
+     *         event is not about a session
+     */
+    public int getOldSessionIndex() {
+        return oldSessionIndex;
+    }
+
+    /**
+     * Returns the index of the session after the change.
+     *
+     * @return the new session index, or -1 if the session was removed or the
+     *         event is not about a session
+     */
+    public int getSessionIndex() {
+        return sessionIndex;
+    }
+
+    /**
+     * Returns the index of the accepted item in the proceedings before the change.
+     *
+     * @return the old item index, or -1 if the item was added or the event is
+     *         not about an accepted item
+     */
+    public int getOldItemIndex() {
+        return oldItemIndex;
+    }
+
+    /**
+     * Returns the index of the accepted item in the proceedings after the change.
+     *
+     * @return the new item index, or -1 if the item was removed or the event
+     *         is not about an accepted item
+     */
+    public int getItemIndex() {
+        return itemIndex;
+    }
+
+    /**
+     * Returns the position of the accepted item in its session before the change.
+     *
+     * @return the old position, or -1 if the item was assigned or the event is
+     *         not about the items in a session
+     */
+    public int getOldPosition() {
+        return oldPosition;
+    }
+
+    /**
+     * Returns the position of the accepted item in its session after the change.
+     *
+     * @return the new position, or -1 if the item was unassigned or the event
+     *         is not about the items in a session
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns a string representation of the event.
+     *
+     * @return the type and indexes of the event
+     */
+    @Override
+    public String toString() {
+        return type + " session " + oldSessionIndex + "->" + sessionIndex + " item " + oldItemIndex + "->"
+                + itemIndex + " position " + oldPosition + "->" + position;
+    }
+}
@@ -0,0 +1,35 @@
+package edu.ncsu.csc216.wolf_proceedings.model.conference;
+
+import java.util.List;
+
+/**
+ * Listens for changes to a conference. Listeners are called on the thread that
+ * changed the conference, after the change is complete. Between
+ * Conference.beginBatch and Conference.endBatch, events are held and handed
+ * over together when the batch ends.
+ *
+ * @author Vamsi Gaddipati
+ */
+public interface ConferenceListener {
+
+    /**
+     * Called after one change to the conference.
+     *
+     * @param event the change
+     */
+    void conferenceChanged(ConferenceEvent event);
+
+    /**
+     * Called when a batch of changes ends, with the events of the batch in the
+     * order they happened. By default each event is passed to
+     * conferenceChanged in turn; listeners may override this to handle many
+     * changes at once.
+     *
+     * @param events the changes made during the batch
+     */
+    default void batchFinished(List<ConferenceEvent> events) {
+        for (ConferenceEvent event : events) {
+            conferenceChanged(event);
+        }
+    }
+}
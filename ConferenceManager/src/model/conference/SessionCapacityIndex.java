@@ -0,0 +1,152 @@
+package edu.ncsu.csc216.wolf_proceedings.model.conference;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
+
+/**
+ * Indexes the sessions of a conference by their remaining capacity, so that
+ * the sessions that can still fit an item are found without scanning every
+ * session. Sessions with the same remaining capacity are kept in the order
+ * they reached it.
+ *
+ * The index registers itself as the capacity listener of each session it
+ * holds, so adding or removing items, or changing the duration of a session
+ * or of one of its items, moves the session to its new place right away.
+ *
+ * @author Vamsi Gaddipati
+ */
+class SessionCapacityIndex implements Session.CapacityListener {
+
+    /** The sessions keyed by remaining capacity */
+    private final TreeMap<Integer, LinkedHashSet<Session>> byCapacity;
+
+    /** The capacity each session is filed under */
+    private final Map<Session, Integer> filedCapacity;
+
+    /**
+     * Constructs an empty index.
+     */
+    SessionCapacityIndex() {
+        byCapacity = new TreeMap<Integer, LinkedHashSet<Session>>();
+        filedCapacity = new IdentityHashMap<Session, Integer>();
+    }
+
+    /**
+     * Adds a session to the index and starts listening to it.
+     *
+     * @param session the session to add
+     */
+    void add(Session session) {
+        if (filedCapacity.containsKey(session)) {
+            return;
+        }
+        session.setCapacityListener(this);
+        file(session, session.getRemainingCapacity());
+    }
+
+    /**
+     * Removes a session from the index and stops listening to it.
+     *
+     * @param session the session to remove
+     */
+    void remove(Session session) {
+        Integer capacity = filedCapacity.remove(session);
+        if (capacity != null) {
+            unfile(session, capacity);
+            session.setCapacityListener(null);
+        }
+    }
+
+    /**
+     * Moves a session to its new remaining capacity.
+     *
+     * @param session the session that changed
+     */
+    @Override
+    public void capacityChanged(Session session) {
+        Integer old = filedCapacity.get(session);
+        if (old == null) {
+            return;
+        }
+        int capacity = session.getRemainingCapacity();
+        if (old != capacity) {
+            unfile(session, old);
+            file(session, capacity);
+        }
+    }
+
+    /**
+     * Returns the sessions with at least the given remaining capacity, from
+     * the least remaining capacity to the most.
+     *
+     * @param minutes the time needed
+     * @return the sessions that have room
+     */
+    List<Session> atLeast(int minutes) {
+        List<Session> result = new ArrayList<Session>();
+        for (LinkedHashSet<Session> bucket : byCapacity.tailMap(minutes, true).values()) {
+            result.addAll(bucket);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the session with the least remaining capacity that is at least
+     * the given time.
+     *
+     * @param minutes the time needed
+     * @return the tightest session that has room, or null if none does
+     */
+    Session bestFit(int minutes) {
+        Map.Entry<Integer, LinkedHashSet<Session>> entry = byCapacity.ceilingEntry(minutes);
+        return entry == null ? null : entry.getValue().iterator().next();
+    }
+
+    /**
+     * Returns the session with the most remaining capacity if it is at least
+     * the given time.
+     *
+     * @param minutes the time needed
+     * @return the emptiest session if it has room, or null otherwise
+     */
+    Session worstFit(int minutes) {
+        Map.Entry<Integer, LinkedHashSet<Session>> entry = byCapacity.lastEntry();
+        return entry == null || entry.getKey() < minutes ? null : entry.getValue().iterator().next();
+    }
+
+    /**
+     * Files a session under the given capacity.
+     *
+     * @param session the session to file
+     * @param capacity the remaining capacity of the session
+     */
+    private void file(Session session, int capacity) {
+        filedCapacity.put(session, capacity);
+        LinkedHashSet<Session> bucket = byCapacity.get(capacity);
+        if (bucket == null) {
+            bucket = new LinkedHashSet<Session>();
+            byCapacity.put(capacity, bucket);
+        }
+        bucket.add(session);
+    }
+
+    /**
+     * Removes a session from the bucket for the given capacity.
+     *
+     * @param session the session to remove
+     * @param capacity the capacity it was filed under
+     */
+    private void unfile(Session session, int capacity) {
+        LinkedHashSet<Session> bucket = byCapacity.get(capacity);
+        bucket.remove(session);
+        if (bucket.isEmpty()) {
+            byCapacity.remove(capacity);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package edu.ncsu.csc216.wolf_proceedings.model.io;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Writes conference snapshots to disk on a background thread. A snapshot is
+ * taken on the thread that owns the conference with Conference.snapshot, and
+ * handed to save, which returns right away. Snapshots are written one at a
+ * time with an atomic save. If several snapshots arrive while one is being
+ * written, only the newest is written next, so a burst of edits leads to at
+ * most one more write.
+ *
+ * @author Vamsi Gaddipati
+ */
+public class AutosaveService {
+
+    /** The thread the snapshots are written on */
+    private final ExecutorService executor;
+
+    /** Told when each write finishes */
+    private final SaveListener listener;
+
+    /** Guards the fields below */
+    private final Object lock = new Object();
+
+    /** The newest snapshot that has not started writing, or null if there is none */
+    private File pendingFile;
+
+    /** The contents of the pending snapshot */
+    private byte[] pendingContents;
+
+    /** True if the background thread is writing or about to write */
+    private boolean writing;
+
+    /** The file whose last write failed, or null if no write has failed since */
+    private File failedFile;
+
+    /**
+     * Constructs a service with its own background thread. The thread does not
+     * keep the program running.
+     *
+     * @param listener told on the background thread when each write finishes
+     */
+    public AutosaveService(SaveListener listener) {
+        this.listener = listener;
+        executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "Conference autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a snapshot to be written to the given file, replacing any queued
+     * snapshot that has not started writing.
+     *
+     * @param conferenceFile the file to write
+     * @param contents the snapshot of the conference
+     * @throws IllegalArgumentException if the file or contents are null
+     */
+    public void save(File conferenceFile, byte[] contents) {
+        if (conferenceFile == null || contents == null) {
+            throw new IllegalArgumentException("Invalid snapshot.");
+        }
+        synchronized (lock) {
+            pendingFile = conferenceFile;
+            pendingContents = contents;
+            if (!writing) {
+                writing = true;
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    /**
+     * Returns true if a snapshot is being written or waiting to be written.
+     *
+     * @return true if a save is in flight
+     */
+    public boolean isSaving() {
+        synchronized (lock) {
+            return writing;
+        }
+    }
+
+    /**
+     * Returns true if the last finished write of the given file failed. The
+     * result is recorded before the listener is told, so a caller that has
+     * waited with awaitIdle can check it without waiting for the listener.
+     *
+     * @param conferenceFile the file to check
+     * @return true if the file's last write failed
+     */
+    public boolean isFailed(File conferenceFile) {
+        synchronized (lock) {
+            return failedFile != null && failedFile.equals(conferenceFile);
+        }
+    }
+
+    /**
+     * Waits until every queued snapshot has been written.
+     *
+     * @param timeoutMillis the longest time to wait in milliseconds
+     * @return true if no save is in flight
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean awaitIdle(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (lock) {
+            while (writing) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                lock.wait(remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Stops the background thread after the queued snapshots are written.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Writes snapshots until none are queued. A write that fails for any
+     * reason is reported to the listener, and the service is marked idle even
+     * if the thread stops unexpectedly, so later saves still run.
+     */
+    private void drain() {
+        boolean drained = false;
+        try {
+            drainQueue();
+            drained = true;
+        } finally {
+            if (!drained) {
+                synchronized (lock) {
+                    writing = false;
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes snapshots until none are queued, then marks the service idle.
+     */
+    private void drainQueue() {
+        while (true) {
+            File file;
+            byte[] contents;
+            synchronized (lock) {
+                if (pendingFile == null) {
+                    writing = false;
+                    lock.notifyAll();
+                    return;
+                }
+                file = pendingFile;
+                contents = pendingContents;
+                pendingFile = null;
+                pendingContents = null;
+            }
+
+            SaveMetrics metrics = null;
+            String error = null;
+            try {
+                metrics = ConferenceWriter.writeFileAtomic(file, contents);
+            } catch (IllegalArgumentException e) {
+                error = e.getMessage();
+            } catch (RuntimeException e) {
+                error = "Unable to save file.";
+            }
+            synchronized (lock) {
+                if (metrics == null) {
+                    failedFile = file;
+                } else if (file.equals(failedFile)) {
+                    failedFile = null;
+                }
+            }
+            try {
+                if (metrics != null) {
+                    listener.saveFinished(file, metrics);
+                } else {
+                    listener.saveFailed(file, error);
+                }
+            } catch (RuntimeException e) {
+                // a failing listener does not stop later saves
+            }
+        }
+    }
+
+    /**
+     * Listens for the results of background saves. Methods are called on the
+     * background thread.
+     */
+    public interface SaveListener {
+
+        /**
+         * Called after a snapshot has been written.
+         *
+         * @param conferenceFile the file that was written
+         * @param metrics the size of the file and the time taken to write it
+         */
+        void saveFinished(File conferenceFile, SaveMetrics metrics);
+
+        /**
+         * Called after a snapshot could not be written.
+         *
+         * @param conferenceFile the file that could not be written
+         * @param message the reason the write failed
+         */
+        void saveFailed(File conferenceFile, String message);
+    }
+}
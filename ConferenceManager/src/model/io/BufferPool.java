@@ -0,0 +1,72 @@
+package edu.ncsu.csc216.wolf_proceedings.model.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of direct ByteBuffers of one capacity, so that writers can reuse the
+ * same native memory for every save instead of allocating new buffers. Only a
+ * limited number of released buffers are kept. The pool can be shared between
+ * threads.
+ *
+ * @author Vamsi Gaddipati
+ */
+class BufferPool {
+
+    /** The pool shared by the conference writers */
+    static final BufferPool SHARED = new BufferPool(1 << 16, 64);
+
+    /** The capacity of each buffer */
+    private final int capacity;
+
+    /** The most released buffers kept for reuse */
+    private final int maxPooled;
+
+    /** The released buffers waiting to be reused */
+    private final ConcurrentLinkedQueue<ByteBuffer> buffers;
+
+    /** The number of buffers in the queue */
+    private final AtomicInteger pooled;
+
+    /**
+     * Constructs an empty pool.
+     *
+     * @param capacity the capacity of each buffer in bytes
+     * @param maxPooled the most released buffers to keep for reuse
+     */
+    BufferPool(int capacity, int maxPooled) {
+        this.capacity = capacity;
+        this.maxPooled = maxPooled;
+        buffers = new ConcurrentLinkedQueue<ByteBuffer>();
+        pooled = new AtomicInteger();
+    }
+
+    /**
+     * Returns a cleared buffer, reusing a released one if there is one.
+     *
+     * @return an empty buffer
+     */
+    ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(capacity);
+        }
+        pooled.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool. The buffer must not be used afterward.
+     *
+     * @param buffer a buffer acquired from this pool
+     */
+    void release(ByteBuffer buffer) {
+        if (pooled.incrementAndGet() <= maxPooled) {
+            buffers.offer(buffer);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,482 @@
+package edu.ncsu.csc216.wolf_proceedings.model.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.AcceptedItem;
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.LightningTalk;
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.Panel;
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.Paper;
+import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
+
+/**
+ * Parses the lines of a UTF-8 conference file directly from the bytes of a
+ * ByteBuffer, such as a memory-mapped file. Lines are never turned into Strings;
+ * the parser scans for the separators in place and only decodes the conference
+ * name, session names, and the authors and titles of accepted items. The rules
+ * for skipping invalid lines are the same as in ConferenceReader.
+ *
+ * @author Vamsi Gaddipati
+ */
+class ConferenceByteParser {
+
+    /** The number of fields whose bounds are recorded when splitting a line */
+    private static final int MAX_FIELDS = 4;
+
+    /** The bytes of the line that starts the unassigned items */
+    private static final byte[] UNASSIGNED_LINE = {'#', ' ', '+', '+', '+'};
+
+    /** The sessions parsed so far, in file order */
+    private List<Session> sessions;
+
+    /** The accepted items parsed so far, in file order, mapped to their sessions */
+    private Map<AcceptedItem, Session> items;
+
+    /** The session that item lines are currently added to */
+    private Session currentSession;
+
+    /** True if item lines are currently unassigned items */
+    private boolean unassignedSection;
+
+    /** True if the first line still has to be read as the conference name */
+    private boolean readName;
+
+    /** The conference name, or null if it has not been read */
+    private String conferenceName;
+
+    /** Start offsets of the fields of the line being split */
+    private int[] fieldStart = new int[MAX_FIELDS];
+
+    /** End offsets of the fields of the line being split */
+    private int[] fieldEnd = new int[MAX_FIELDS];
+
+    /** Buffer that bytes are copied into before being decoded */
+    private byte[] scratch = new byte[256];
+
+    /**
+     * Constructs a parser.
+     *
+     * @param readName true if the first line parsed is the conference name,
+     *        false if parsing starts partway through a file
+     */
+    ConferenceByteParser(boolean readName) {
+        this.readName = readName;
+        sessions = new ArrayList<Session>();
+        items = new LinkedHashMap<AcceptedItem, Session>();
+    }
+
+    /**
+     * Returns the conference name read from the first line.
+     *
+     * @return the conference name, or null if it has not been read
+     */
+    String getConferenceName() {
+        return conferenceName;
+    }
+
+    /**
+     * Returns the sessions parsed so far, in file order.
+     *
+     * @return the parsed sessions
+     */
+    List<Session> getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Returns the accepted items parsed so far, in file order, mapped to the
+     * session each belongs to or to null if unassigned.
+     *
+     * @return the parsed accepted items
+     */
+    Map<AcceptedItem, Session> getItems() {
+        return items;
+    }
+
+    /**
+     * Adds the sessions and items parsed by another parser after the ones parsed
+     * by this parser.
+     *
+     * @param other a parser that parsed the bytes following this parser's bytes
+     */
+    void append(ConferenceByteParser other) {
+        sessions.addAll(other.sessions);
+        items.putAll(other.items);
+    }
+
+    /**
+     * Returns the offset of the first line ending at or after the start offset.
+     *
+     * @param buffer the bytes to search
+     * @param start the offset to start searching from
+     * @param end the offset just past the last byte to search
+     * @return the offset of the line ending, or end if there is none
+     */
+    static int lineEnd(ByteBuffer buffer, int start, int end) {
+        while (start < end && buffer.get(start) != '\n' && buffer.get(start) != '\r') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the offset of the first session line that starts after the start
+     * offset. Parsing can begin fresh at a session line, since it resets which
+     * session the following items belong to.
+     *
+     * @param buffer the bytes to search
+     * @param start the offset to start searching from
+     * @param end the offset just past the last byte to search
+     * @return the offset of the start of the session line, or end if there is none
+     */
+    static int nextBlockStart(ByteBuffer buffer, int start, int end) {
+        int lineStart = lineEnd(buffer, start, end) + 1;
+        while (lineStart < end) {
+            int i = lineStart;
+            while (i < end && (buffer.get(i) & 0xff) <= ' ' && buffer.get(i) != '\n' && buffer.get(i) != '\r') {
+                i++;
+            }
+            if (i < end && buffer.get(i) == '#') {
+                return lineStart;
+            }
+            lineStart = lineEnd(buffer, i, end) + 1;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the offset of the last session line that starts after the start
+     * offset.
+     *
+     * @param buffer the bytes to search
+     * @param start the offset to start searching from
+     * @param end the offset just past the last byte to search
+     * @return the offset of the start of the session line, or -1 if there is none
+     */
+    static int lastBlockStart(ByteBuffer buffer, int start, int end) {
+        for (int i = end - 1; i > start; i--) {
+            if (buffer.get(i) == '#') {
+                int j = i - 1;
+                while (j >= start && (buffer.get(j) & 0xff) <= ' ' && buffer.get(j) != '\n' && buffer.get(j) != '\r') {
+                    j--;
+                }
+                if (j >= start && (buffer.get(j) == '\n' || buffer.get(j) == '\r')) {
+                    return j + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses the lines between the start and end offsets of the buffer. A line
+     * ends at a line feed, a carriage return, or both. If the input continues
+     * after end, a last line with no line ending is left unparsed.
+     *
+     * @param buffer the bytes to parse
+     * @param start the offset of the first line
+     * @param end the offset just past the last byte to parse
+     * @param endOfInput true if no more bytes follow end
+     * @return the offset just past the last line that was parsed
+     */
+    int parseLines(ByteBuffer buffer, int start, int end, boolean endOfInput) {
+        int lineStart = start;
+        while (lineStart < end) {
+            int lineEnd = lineEnd(buffer, lineStart, end);
+            if (lineEnd == end && !endOfInput) {
+                break;
+            }
+            parseLine(buffer, lineStart, lineEnd);
+            if (lineEnd < end && buffer.get(lineEnd) == '\r' && lineEnd + 1 < end
+                    && buffer.get(lineEnd + 1) == '\n') {
+                lineEnd++;
+            }
+            lineStart = lineEnd + 1;
+        }
+        return Math.min(lineStart, end);
+    }
+
+    /**
+     * Parses a single line.
+     *
+     * @param buffer the bytes to parse
+     * @param start the offset of the first byte of the line
+     * @param end the offset just past the last byte of the line
+     */
+    private void parseLine(ByteBuffer buffer, int start, int end) {
+        start = trimStart(buffer, start, end);
+        end = trimEnd(buffer, start, end);
+        if (readName) {
+            readName = false;
+            conferenceName = decode(buffer, start, end);
+            return;
+        }
+        if (start == end) {
+            return;
+        }
+
+        byte first = buffer.get(start);
+        if (matches(buffer, start, end, UNASSIGNED_LINE)) {
+            unassignedSection = true;
+            currentSession = null;
+        } else if (first == '#') {
+            unassignedSection = false;
+            currentSession = parseSession(buffer, trimStart(buffer, start + 1, end), end);
+            if (currentSession != null) {
+                sessions.add(currentSession);
+            }
+        } else if (first == '*') {
+            parseAcceptedItem(buffer, trimStart(buffer, start + 1, end), end);
+        }
+    }
+
+    /**
+     * Parses the part of a session line after the #.
+     *
+     * @param buffer the bytes to parse
+     * @param start the offset of the first byte after the # and any spaces
+     * @param end the offset just past the last byte of the line
+     * @return the session that was created, or null if the line is invalid
+     */
+    private Session parseSession(ByteBuffer buffer, int start, int end) {
+        if (split(buffer, start, end, (byte) ',') != 2) {
+            return null;
+        }
+        if (fieldStart[0] == fieldEnd[0] || fieldStart[1] == fieldEnd[1]) {
+            return null;
+        }
+
+        int duration;
+        try {
+            duration = parseInt(buffer, fieldStart[1], fieldEnd[1]);
+            if (duration < 5 || duration > 120) return null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        String name = decode(buffer, trimStart(buffer, fieldStart[0], fieldEnd[0]),
+                trimEnd(buffer, fieldStart[0], fieldEnd[0]));
+        return new Session(name, duration);
+    }
+
+    /**
+     * Parses the part of an accepted item line after the * and records the item
+     * with its session if it belongs to one.
+     *
+     * @param buffer the bytes to parse
+     * @param start the offset of the first byte after the * and any spaces
+     * @param end the offset just past the last byte of the line
+     */
+    private void parseAcceptedItem(ByteBuffer buffer, int start, int end) {
+        int count = split(buffer, start, end, (byte) '|');
+        if (count < 3) return;
+
+        int typeStart = trimStart(buffer, fieldStart[0], fieldEnd[0]);
+        int typeEnd = trimEnd(buffer, typeStart, fieldEnd[0]);
+        try {
+            AcceptedItem item;
+            if (matchesIgnoreCase(buffer, typeStart, typeEnd, "paper")) {
+                if (count > 4) return; // too many fields
+                int duration = 15;
+                if (count == 4) {
+                    try {
+                        duration = parseInt(buffer, fieldStart[3], fieldEnd[3]);
+                    } catch (NumberFormatException e) {
+                        return; // invalid duration
+                    }
+                }
+                item = new Paper(decodeField(buffer, 1), decodeField(buffer, 2), duration);
+            } else if (matchesIgnoreCase(buffer, typeStart, typeEnd, "panel")) {
+                if (count != 3) return;
+                item = new Panel(decodeField(buffer, 1), decodeField(buffer, 2));
+            } else if (matchesIgnoreCase(buffer, typeStart, typeEnd, "lightningtalk")
+                    || matchesIgnoreCase(buffer, typeStart, typeEnd, "lightning talk")) {
+                if (count != 3) return;
+                item = new LightningTalk(decodeField(buffer, 1), decodeField(buffer, 2));
+            } else {
+                return; // unknown type
+            }
+
+            if (unassignedSection && currentSession == null) {
+                items.put(item, null);
+            }
+            if (!unassignedSection && currentSession != null) {
+                items.put(item, currentSession);
+            }
+        } catch (IllegalArgumentException e) {
+            // invalid item, so the line is skipped
+        }
+    }
+
+    /**
+     * Splits the bytes at each separator the way String.split does, dropping
+     * trailing empty fields, and records the bounds of the first fields.
+     *
+     * @param buffer the bytes to split
+     * @param start the offset of the first byte
+     * @param end the offset just past the last byte
+     * @param separator the byte that separates fields
+     * @return the number of fields
+     */
+    private int split(ByteBuffer buffer, int start, int end, byte separator) {
+        int count = 0;
+        int nonEmpty = 0;
+        int fieldFrom = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || buffer.get(i) == separator) {
+                if (count < MAX_FIELDS) {
+                    fieldStart[count] = fieldFrom;
+                    fieldEnd[count] = i;
+                }
+                count++;
+                if (i > fieldFrom) {
+                    nonEmpty = count;
+                }
+                fieldFrom = i + 1;
+            }
+        }
+        return nonEmpty;
+    }
+
+    /**
+     * Decodes one of the recorded fields with surrounding spaces removed.
+     *
+     * @param buffer the bytes holding the field
+     * @param field the index of the field
+     * @return the trimmed field
+     */
+    private String decodeField(ByteBuffer buffer, int field) {
+        int start = trimStart(buffer, fieldStart[field], fieldEnd[field]);
+        return decode(buffer, start, trimEnd(buffer, start, fieldEnd[field]));
+    }
+
+    /**
+     * Decodes the UTF-8 bytes between the given offsets.
+     *
+     * @param buffer the bytes to decode
+     * @param start the offset of the first byte
+     * @param end the offset just past the last byte
+     * @return the decoded String
+     */
+    private String decode(ByteBuffer buffer, int start, int end) {
+        int length = end - start;
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses the trimmed bytes between the given offsets as a decimal integer,
+     * accepting the same input as Integer.parseInt.
+     *
+     * @param buffer the bytes to parse
+     * @param start the offset of the first byte
+     * @param end the offset just past the last byte
+     * @return the parsed value
+     * @throws NumberFormatException if the bytes are not an integer
+     */
+    private int parseInt(ByteBuffer buffer, int start, int end) {
+        start = trimStart(buffer, start, end);
+        end = trimEnd(buffer, start, end);
+        int i = start;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            i++;
+        }
+        if (i == end || end - i > 9) {
+            return Integer.parseInt(decode(buffer, start, end));
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                // may still be valid with digits outside ASCII
+                return Integer.parseInt(decode(buffer, start, end));
+            }
+            value = value * 10 + digit;
+        }
+        return buffer.get(start) == '-' ? -value : value;
+    }
+
+    /**
+     * Returns the offset of the first byte that is not a space or control character.
+     *
+     * @param buffer the bytes to trim
+     * @param start the offset of the first byte
+     * @param end the offset just past the last byte
+     * @return the trimmed start offset
+     */
+    private static int trimStart(ByteBuffer buffer, int start, int end) {
+        while (start < end && (buffer.get(start) & 0xff) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the offset just past the last byte that is not a space or control
+     * character.
+     *
+     * @param buffer the bytes to trim
+     * @param start the offset of the first byte
+     * @param end the offset just past the last byte
+     * @return the trimmed end offset
+     */
+    private static int trimEnd(ByteBuffer buffer, int start, int end) {
+        while (end > start && (buffer.get(end - 1) & 0xff) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Returns true if the bytes between the offsets are exactly the given bytes.
+     *
+     * @param buffer the bytes to check
+     * @param start the offset of the first byte
+     * @param end the offset just past the last byte
+     * @param expected the bytes to match
+     * @return true if the bytes match
+     */
+    private static boolean matches(ByteBuffer buffer, int start, int end, byte[] expected) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the bytes between the offsets spell the given lower case
+     * ASCII word, ignoring case.
+     *
+     * @param buffer the bytes to check
+     * @param start the offset of the first byte
+     * @param end the offset just past the last byte
+     * @param word the lower case word to match
+     * @return true if the bytes match the word
+     */
+    private static boolean matchesIgnoreCase(ByteBuffer buffer, int start, int end, String word) {
+        if (end - start != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            int b = buffer.get(start + i);
+            if (b >= 'A' && b <= 'Z') {
+                b += 'a' - 'A';
+            }
+            if (b != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,7 +1,20 @@
 package edu.ncsu.csc216.wolf_proceedings.model.io;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.util.Scanner;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
 import edu.ncsu.csc216.wolf_proceedings.model.proceedings.AcceptedItem;
@@ -9,14 +22,26 @@ import edu.ncsu.csc216.wolf_proceedings.model.proceedings.LightningTalk;
 import edu.ncsu.csc216.wolf_proceedings.model.proceedings.Panel;
 import edu.ncsu.csc216.wolf_proceedings.model.proceedings.Paper;
 import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
+import edu.ncsu.csc216.wolf_proceedings.model.util.TreeSortedList;
 
 /**
- * Reads a conference file and converts it into a Conference object.
+ * Reads a conference file and converts it into a Conference object. The file
+ * is read as UTF-8 one line at a time, and the sessions and accepted items are
+ * collected as the file is parsed and then added to the conference in one
+ * batch, or handed to a listener in chunks. Very large files can instead be memory-mapped and parsed directly
+ * from their bytes, either in one pass or split into session blocks that are
+ * parsed in parallel.
  * 
  * @author Vamsi Gaddipati
  */
 public class ConferenceReader {
 
+    /** The number of bytes of a file mapped into memory at a time */
+    private static final int MAP_WINDOW = 1 << 28;
+
+    /** The number of bytes below which a block of the file is not split further */
+    private static final int BLOCK_SIZE = 1 << 20;
+
     /**
      * Reads a conference file and returns a Conference object.
      * 
@@ -29,28 +54,252 @@ public class ConferenceReader {
             throw new IllegalArgumentException("Unable to load file.");
         }
 
-        StringBuilder sb = new StringBuilder();
-        try (Scanner scanner = new Scanner(conferenceFile)) {
-            while (scanner.hasNextLine()) {
-                sb.append(scanner.nextLine()).append("\n");
+        try (FileInputStream in = new FileInputStream(conferenceFile);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            // First line: conference name
+            String name = reader.readLine();
+            if (name == null) {
+                throw new IllegalArgumentException("Invalid file format.");
             }
-        } catch (Exception e) {
+            Conference conf = new Conference(name.trim());
+
+            parseLines(reader, in.getChannel(), Integer.MAX_VALUE,
+                    (sessions, items, bytesRead, totalBytes) -> conf.addAll(sessions, items));
+            conf.setChanged(false);
+            return conf;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to load file.");
+        }
+    }
+
+    /**
+     * Reads a conference file one chunk at a time. The listener is given the
+     * conference name, and then the sessions and items parsed so far each time
+     * the chunk size is reached, along with how much of the file has been read.
+     * Adding each chunk to a Conference with addAll as it arrives gives the same
+     * conference as readConferenceFile, so a caller can show a large file while
+     * it loads. A conference from createChunkedConference keeps each addAll
+     * cheap however large the conference grows.
+     * 
+     * @param conferenceFile the file to read
+     * @param listener receives the name and chunks on the calling thread
+     * @param chunkSize the number of sessions and items in each chunk but the last
+     * @throws IllegalArgumentException if the chunk size is not positive or the
+     *         file cannot be loaded
+     */
+    public static void readConferenceFile(File conferenceFile, ChunkListener listener, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Invalid chunk size.");
+        }
+        if (conferenceFile == null || !conferenceFile.exists()) {
             throw new IllegalArgumentException("Unable to load file.");
         }
 
-        String[] lines = sb.toString().split("\n");
-        if (lines.length < 1) {
+        try (FileInputStream in = new FileInputStream(conferenceFile);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String name = reader.readLine();
+            if (name == null) {
+                throw new IllegalArgumentException("Invalid file format.");
+            }
+            listener.nameRead(name.trim());
+
+            parseLines(reader, in.getChannel(), chunkSize, listener);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to load file.");
+        }
+    }
+
+    /**
+     * Creates an empty conference to add the chunks of a file to as they are
+     * read. Its sessions and accepted items are kept in balanced trees, so
+     * adding a chunk takes time that grows with the chunk and only with the
+     * logarithm of the conference, where the lists of a new Conference would
+     * merge every item again for each chunk. Adding the chunks of a file to it
+     * gives the same sessions and items in the same order as readConferenceFile.
+     * 
+     * @param conferenceName the conference name
+     * @return an empty conference that takes chunks cheaply
+     * @throws IllegalArgumentException if the name is invalid
+     */
+    public static Conference createChunkedConference(String conferenceName) {
+        return new Conference(conferenceName, new TreeSortedList<Session>(), new TreeSortedList<AcceptedItem>());
+    }
+
+    /**
+     * Reads a conference file by memory-mapping it and parsing the lines directly
+     * from the mapped bytes. Only the conference name, session names, and item
+     * authors and titles are decoded into Strings. Files larger than the mapping
+     * window are mapped one window at a time, so the file size is not limited.
+     * The result is the same as from readConferenceFile.
+     * 
+     * @param conferenceFile the file to read
+     * @return a Conference object with sessions and accepted items
+     * @throws IllegalArgumentException if the file cannot be loaded
+     */
+    public static Conference readConferenceFileMapped(File conferenceFile) {
+        return readConferenceFileMapped(conferenceFile, MAP_WINDOW);
+    }
+
+    /**
+     * Reads a conference file by memory-mapping it at most the given number of
+     * bytes at a time. A window always starts at the beginning of a line, and is
+     * grown if a single line does not fit in it.
+     * 
+     * @param conferenceFile the file to read
+     * @param windowSize the number of bytes to map at a time
+     * @return a Conference object with sessions and accepted items
+     * @throws IllegalArgumentException if the file cannot be loaded
+     */
+    static Conference readConferenceFileMapped(File conferenceFile, int windowSize) {
+        if (conferenceFile == null || !conferenceFile.exists()) {
+            throw new IllegalArgumentException("Unable to load file.");
+        }
+
+        ConferenceByteParser parser = new ConferenceByteParser(true);
+        try (FileChannel channel = FileChannel.open(conferenceFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            int window = windowSize;
+            while (position < size) {
+                int length = (int) Math.min(window, size - position);
+                boolean last = position + length == size;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int parsed = parser.parseLines(buffer, 0, length, last);
+                if (parsed == 0 && !last) {
+                    if (window == Integer.MAX_VALUE) {
+                        throw new IllegalArgumentException("Unable to load file.");
+                    }
+                    window = (int) Math.min(2L * window, Integer.MAX_VALUE);
+                } else {
+                    position += parsed;
+                    window = windowSize;
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to load file.");
+        }
+
+        if (parser.getConferenceName() == null) {
             throw new IllegalArgumentException("Invalid file format.");
         }
+        Conference conf = new Conference(parser.getConferenceName());
+        conf.addAll(parser.getSessions(), parser.getItems());
+        conf.setChanged(false);
+        return conf;
+    }
+
+    /**
+     * Reads a conference file in parallel using the common fork/join pool.
+     * 
+     * @param conferenceFile the file to read
+     * @return a Conference object with sessions and accepted items
+     * @throws IllegalArgumentException if the file cannot be loaded
+     */
+    public static Conference readConferenceFileParallel(File conferenceFile) {
+        return readConferenceFileParallel(conferenceFile, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads a conference file in parallel. The file is memory-mapped and split
+     * into blocks that each start at a session line, since a session line
+     * decides where the items after it belong no matter what came before it.
+     * The blocks are parsed on the given pool and their sessions and items are
+     * combined in file order, so the result is the same as from
+     * readConferenceFile.
+     * 
+     * @param conferenceFile the file to read
+     * @param pool the pool to parse the blocks on
+     * @return a Conference object with sessions and accepted items
+     * @throws IllegalArgumentException if the file cannot be loaded
+     */
+    public static Conference readConferenceFileParallel(File conferenceFile, ForkJoinPool pool) {
+        return readConferenceFileParallel(conferenceFile, pool, MAP_WINDOW, BLOCK_SIZE);
+    }
+
+    /**
+     * Reads a conference file in parallel, mapping at most the given number of
+     * bytes at a time and parsing blocks of about the given size on each thread.
+     * A window always ends at the start of a session line unless it reaches the
+     * end of the file, and is grown if it holds no session line.
+     * 
+     * @param conferenceFile the file to read
+     * @param pool the pool to parse the blocks on
+     * @param windowSize the number of bytes to map at a time
+     * @param blockSize the number of bytes below which a block is not split
+     * @return a Conference object with sessions and accepted items
+     * @throws IllegalArgumentException if the file cannot be loaded
+     */
+    static Conference readConferenceFileParallel(File conferenceFile, ForkJoinPool pool, int windowSize,
+            int blockSize) {
+        if (conferenceFile == null || !conferenceFile.exists()) {
+            throw new IllegalArgumentException("Unable to load file.");
+        }
 
-        // First line: conference name
-        Conference conf = new Conference(lines[0].trim());
+        ConferenceByteParser parser = new ConferenceByteParser(true);
+        try (FileChannel channel = FileChannel.open(conferenceFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            int window = windowSize;
+            while (position < size) {
+                int length = (int) Math.min(window, size - position);
+                boolean last = position + length == size;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
 
+                int start = 0;
+                if (parser.getConferenceName() == null) {
+                    start = ConferenceByteParser.lineEnd(buffer, 0, length);
+                    if (start < length || last) {
+                        parser.parseLines(buffer, 0, start, true);
+                    }
+                }
+                int end = last ? length : ConferenceByteParser.lastBlockStart(buffer, start, length);
+                if (end > start) {
+                    for (ConferenceByteParser block : pool.invoke(new ParseBlockTask(buffer, start, end, blockSize))) {
+                        parser.append(block);
+                    }
+                    position += end;
+                    window = windowSize;
+                } else if (parser.getConferenceName() != null && start > 0) {
+                    position += start;
+                } else if (window == Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Unable to load file.");
+                } else {
+                    window = (int) Math.min(2L * window, Integer.MAX_VALUE);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to load file.");
+        }
+
+        if (parser.getConferenceName() == null) {
+            throw new IllegalArgumentException("Invalid file format.");
+        }
+        Conference conf = new Conference(parser.getConferenceName());
+        conf.addAll(parser.getSessions(), parser.getItems());
+        conf.setChanged(false);
+        return conf;
+    }
+
+    /**
+     * Parses the session and accepted item lines that follow the conference
+     * name, one line at a time, handing them to the listener in chunks.
+     * 
+     * @param reader the reader positioned after the conference name
+     * @param channel the channel of the file, used to report progress
+     * @param chunkSize the number of sessions and items in each chunk but the last
+     * @param listener receives the chunks
+     * @throws IOException if the file cannot be read
+     */
+    private static void parseLines(BufferedReader reader, FileChannel channel, int chunkSize,
+            ChunkListener listener) throws IOException {
+        List<Session> sessions = new ArrayList<Session>();
+        Map<AcceptedItem, Session> items = new LinkedHashMap<AcceptedItem, Session>();
         Session currentSession = null;
         boolean unassignedSection = false;
 
-        for (int i = 1; i < lines.length; i++) {        	
-            String line = lines[i].trim();
+        String rawLine;
+        while ((rawLine = reader.readLine()) != null) {
+            String line = rawLine.trim();
             if (line.isEmpty()) continue;
 
             if ("# +++".equals(line)) {
@@ -59,23 +308,29 @@ public class ConferenceReader {
             } else if (line.startsWith("#")) {
             	currentSession = null;
                 unassignedSection = false;
-                currentSession = parseSession(line.substring(1).trim(), conf);
+                currentSession = parseSession(line.substring(1).trim());
+                if (currentSession != null) {
+                    sessions.add(currentSession);
+                }
             } else if (line.startsWith("*")) {
-                parseAcceptedItem(line.substring(1).trim(), currentSession, conf, unassignedSection);
+                parseAcceptedItem(line.substring(1).trim(), currentSession, items, unassignedSection);
             }
-        }
 
-        conf.setChanged(false);
-        return conf;
+            if (sessions.size() + items.size() >= chunkSize) {
+                listener.chunkRead(sessions, items, channel.position(), channel.size());
+                sessions = new ArrayList<Session>();
+                items = new LinkedHashMap<AcceptedItem, Session>();
+            }
+        }
+        listener.chunkRead(sessions, items, channel.size(), channel.size());
     }
 
-    /** Parses a session line and adds it to the conference 
+    /** Parses a session line 
      * 
      * @param line The line that is the session
-     * @param conf The confererence the session will be added to
-     * @return return the session that was created
+     * @return return the session that was created, or null if the line is invalid
      * */
-    private static Session parseSession(String line, Conference conf) {
+    private static Session parseSession(String line) {
         String[] parts = line.split(",");
         if (parts.length != 2) return null;
         if (parts[0].isEmpty() || parts[1].isEmpty()) return null;
@@ -90,23 +345,18 @@ public class ConferenceReader {
             return null;
         }
 
-        Session s = new Session(name, duration);
-        try {
-            conf.addSession(s);
-        } catch (IllegalArgumentException e) {
-            return null; // duplicate session name
-        }
-        return s;
+        return new Session(name, duration);
     }
 
-    /** Parses an accepted item line and adds it to the conference and session if assigned 
+    /** Parses an accepted item line and records it with its session if assigned 
      * 
      * @param line The line in the file being checked
      * @param session The session the line is in
-     * @param conf The conference the session and line are in
+     * @param items The items parsed so far, mapped to their sessions
      * @param unassigned Decides whether item is assigned to a session
      */
-    private static void parseAcceptedItem(String line, Session session, Conference conf, boolean unassigned) {
+    private static void parseAcceptedItem(String line, Session session, Map<AcceptedItem, Session> items,
+            boolean unassigned) {
         String[] parts = line.split("\\|");
         if (parts.length < 3) return;
 
@@ -147,15 +397,113 @@ public class ConferenceReader {
             }
             
             if(unassigned && session == null) {
-                conf.addAcceptedItem(item);
+                items.put(item, null);
             }
 
             if (!unassigned && session != null) {
-                conf.addAcceptedItem(item);
-                session.addAcceptedItem(item);
+                items.put(item, session);
             }
             
         } catch (IllegalArgumentException e) {
         }
     }
+
+    /**
+     * Parses a block of a mapped file that starts at a session line or right
+     * after the conference name. Large blocks are split in two at a session line
+     * and the halves are parsed in parallel. The buffer is only read with
+     * absolute gets, so the tasks can share it.
+     */
+    private static class ParseBlockTask extends RecursiveTask<List<ConferenceByteParser>> {
+
+        /** Serial version UID */
+        private static final long serialVersionUID = 1L;
+
+        /** The mapped bytes of the file */
+        private final MappedByteBuffer buffer;
+
+        /** The offset of the first byte of the block */
+        private final int start;
+
+        /** The offset just past the last byte of the block */
+        private final int end;
+
+        /** The number of bytes below which the block is not split */
+        private final int blockSize;
+
+        /**
+         * Constructs a task that parses the given block.
+         * 
+         * @param buffer the mapped bytes of the file
+         * @param start the offset of the first byte of the block
+         * @param end the offset just past the last byte of the block
+         * @param blockSize the number of bytes below which the block is not split
+         */
+        ParseBlockTask(MappedByteBuffer buffer, int start, int end, int blockSize) {
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+            this.blockSize = blockSize;
+        }
+
+        /**
+         * Parses the block, splitting it if it is large.
+         * 
+         * @return parsers holding the sessions and items of the parts of the
+         *         block, in file order
+         */
+        @Override
+        protected List<ConferenceByteParser> compute() {
+            int split = -1;
+            if (end - start > blockSize) {
+                int middle = start + (end - start) / 2;
+                split = ConferenceByteParser.nextBlockStart(buffer, middle, end);
+                if (split == end) {
+                    split = ConferenceByteParser.lastBlockStart(buffer, start, middle);
+                }
+            }
+            if (split <= start) {
+                ConferenceByteParser parser = new ConferenceByteParser(false);
+                parser.parseLines(buffer, start, end, true);
+                List<ConferenceByteParser> parsers = new ArrayList<ConferenceByteParser>();
+                parsers.add(parser);
+                return parsers;
+            }
+
+            ParseBlockTask first = new ParseBlockTask(buffer, start, split, blockSize);
+            first.fork();
+            List<ConferenceByteParser> second = new ParseBlockTask(buffer, split, end, blockSize).compute();
+            List<ConferenceByteParser> parsers = first.join();
+            parsers.addAll(second);
+            return parsers;
+        }
+    }
+
+    /**
+     * Receives a conference file in chunks while it is read.
+     */
+    public interface ChunkListener {
+
+        /**
+         * Called once with the conference name before any chunk.
+         * 
+         * @param conferenceName the trimmed first line of the file
+         */
+        default void nameRead(String conferenceName) {
+            // nothing to do by default
+        }
+
+        /**
+         * Called with each chunk of sessions and items in file order. Each item
+         * is mapped to its session, which may be in an earlier chunk, or to null
+         * if it is unassigned. The last chunk may be empty.
+         * 
+         * @param sessions the sessions parsed since the last chunk
+         * @param items the items parsed since the last chunk
+         * @param bytesRead the number of bytes of the file read so far
+         * @param totalBytes the size of the file in bytes
+         */
+        void chunkRead(List<Session> sessions, Map<AcceptedItem, Session> items, long bytesRead,
+                long totalBytes);
+    }
 }
@@ -1,8 +1,26 @@
 package edu.ncsu.csc216.wolf_proceedings.model.io;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.PrintWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 
 import edu.ncsu.csc216.wolf_proceedings.model.proceedings.AcceptedItem;
 import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
@@ -11,47 +29,450 @@ import edu.ncsu.csc216.wolf_proceedings.model.util.ISortedList;
 /**
  * This class provides a method to write the conference name, sessions,
  * and accepted items to a specified file in a format suitable for reading
- * back with ConferenceReader.
+ * back with ConferenceReader. The file is written as UTF-8 through a buffer
+ * in a single pass over the sessions and accepted items, or through a
+ * FileChannel from pooled direct buffers, optionally rendering the session
+ * blocks in parallel. An atomic mode replaces the file only once the new
+ * contents are safely on disk.
  */
 public class ConferenceWriter {
 
+    /** The default number of characters buffered before they are written to the file */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /** The line separator written after each line */
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /** The number of sessions rendered by each task when writing in parallel */
+    private static final int SESSIONS_PER_TASK = 128;
+
     /**
      * Writes the conference information to the specified file.
      * The file will contain the conference name, sessions, and accepted items.
-     * 
+     *
      * @param conferenceFile the file to write the conference data to
      * @param conferenceName the name of the conference
      * @param sessions the sorted list of sessions in the conference
      * @param proceedings the sorted list of accepted items in the conference
+     * @throws IllegalArgumentException if the file cannot be written
      */
-    public static void writeConferenceFile(File conferenceFile, String conferenceName, 
-                                           ISortedList<Session> sessions, 
+    public static void writeConferenceFile(File conferenceFile, String conferenceName,
+                                           ISortedList<Session> sessions,
                                            ISortedList<AcceptedItem> proceedings) {
-        try (PrintWriter writer = new PrintWriter(conferenceFile)) {
-            // Write conference name
-            writer.println(conferenceName);
+        writeConferenceFile(conferenceFile, conferenceName, sessions, proceedings, DEFAULT_BUFFER_SIZE);
+    }
 
-            // Write sessions and their accepted items
-            for (int i = 0; i < sessions.size(); i++) {
-                Session session = sessions.get(i);
-                writer.println("# " + session.getName() + "," + session.getDuration());
+    /**
+     * Writes the conference information to the specified file, buffering the
+     * given number of characters before each write to the file.
+     *
+     * @param conferenceFile the file to write the conference data to
+     * @param conferenceName the name of the conference
+     * @param sessions the sorted list of sessions in the conference
+     * @param proceedings the sorted list of accepted items in the conference
+     * @param bufferSize the number of characters to buffer
+     * @throws IllegalArgumentException if the buffer size is not positive or
+     *         the file cannot be written
+     */
+    public static void writeConferenceFile(File conferenceFile, String conferenceName,
+                                           ISortedList<Session> sessions,
+                                           ISortedList<AcceptedItem> proceedings, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Invalid buffer size.");
+        }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(conferenceFile), StandardCharsets.UTF_8), bufferSize)) {
+            writeConference(writer, conferenceName, sessions, proceedings);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to save file.");
+        }
+    }
 
-                for (AcceptedItem item : session.getItemList()) {
-                    writer.println("* " + item.toString());
-                }
+    /**
+     * Writes the conference information to the specified file through a
+     * FileChannel. Each session block is encoded as UTF-8 and copied into
+     * pooled direct buffers, and the buffers are written with gathering writes.
+     * The file is byte for byte the same as from writeConferenceFile.
+     *
+     * @param conferenceFile the file to write the conference data to
+     * @param conferenceName the name of the conference
+     * @param sessions the sorted list of sessions in the conference
+     * @param proceedings the sorted list of accepted items in the conference
+     * @throws IllegalArgumentException if the file cannot be written
+     */
+    public static void writeConferenceFileChannel(File conferenceFile, String conferenceName,
+                                                  ISortedList<Session> sessions,
+                                                  ISortedList<AcceptedItem> proceedings) {
+        writeConferenceFileChannel(conferenceFile, conferenceName, sessions, proceedings, BufferPool.SHARED);
+    }
+
+    /**
+     * Writes the conference information to the specified file through a
+     * FileChannel using buffers from the given pool.
+     *
+     * @param conferenceFile the file to write the conference data to
+     * @param conferenceName the name of the conference
+     * @param sessions the sorted list of sessions in the conference
+     * @param proceedings the sorted list of accepted items in the conference
+     * @param pool the pool to take buffers from
+     * @throws IllegalArgumentException if the file cannot be written
+     */
+    static void writeConferenceFileChannel(File conferenceFile, String conferenceName,
+            ISortedList<Session> sessions, ISortedList<AcceptedItem> proceedings, BufferPool pool) {
+        try (FileChannel channel = FileChannel.open(conferenceFile.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeConference(channel, conferenceName, sessions, proceedings, pool);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to save file.");
+        }
+    }
+
+    /**
+     * Writes the conference to an open channel one session block at a time.
+     *
+     * @param channel the channel to write to
+     * @param conferenceName the name of the conference
+     * @param sessions the sorted list of sessions in the conference
+     * @param proceedings the sorted list of accepted items in the conference
+     * @param pool the pool to take buffers from
+     * @throws IOException if the channel cannot be written
+     */
+    private static void writeConference(FileChannel channel, String conferenceName, ISortedList<Session> sessions,
+            ISortedList<AcceptedItem> proceedings, BufferPool pool) throws IOException {
+        try (ChannelBlockWriter writer = new ChannelBlockWriter(channel, pool)) {
+            StringBuilder block = new StringBuilder();
+            block.append(conferenceName).append(LINE_SEPARATOR);
+            for (Session session : sessions) {
+                writeSession(block, session);
+                writer.write(block);
+                block.setLength(0);
+            }
+            writeUnassigned(block, proceedings);
+            writer.write(block);
+        }
+    }
+
+    /**
+     * Writes the conference information to the specified file atomically. The
+     * file is first written to a temporary file in the same directory and forced
+     * to disk, and then moved over the target in one step, so the target holds
+     * either the old contents or the new contents even if the program or the
+     * system stops partway through. If the file system cannot move atomically,
+     * the temporary file replaces the target with an ordinary move.
+     *
+     * @param conferenceFile the file to write the conference data to
+     * @param conferenceName the name of the conference
+     * @param sessions the sorted list of sessions in the conference
+     * @param proceedings the sorted list of accepted items in the conference
+     * @return the size of the file and the time taken by each phase of the save
+     * @throws IllegalArgumentException if the file cannot be written
+     */
+    public static SaveMetrics writeConferenceFileAtomic(File conferenceFile, String conferenceName,
+                                                        ISortedList<Session> sessions,
+                                                        ISortedList<AcceptedItem> proceedings) {
+        return writeAtomic(conferenceFile,
+                channel -> writeConference(channel, conferenceName, sessions, proceedings, BufferPool.SHARED));
+    }
+
+    /**
+     * Writes contents rendered earlier by renderConference to the specified file
+     * atomically, the same way as writeConferenceFileAtomic. Since the contents
+     * no longer depend on the conference, this can be called on any thread.
+     *
+     * @param conferenceFile the file to write the conference data to
+     * @param contents the bytes of the conference file
+     * @return the size of the file and the time taken by each phase of the save
+     * @throws IllegalArgumentException if the file cannot be written
+     */
+    public static SaveMetrics writeFileAtomic(File conferenceFile, byte[] contents) {
+        return writeAtomic(conferenceFile, channel -> {
+            ByteBuffer buffer = ByteBuffer.wrap(contents);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
+
+    /**
+     * Renders the conference information in the file format as UTF-8 bytes,
+     * exactly as writeConferenceFile would write it.
+     *
+     * @param conferenceName the name of the conference
+     * @param sessions the sorted list of sessions in the conference
+     * @param proceedings the sorted list of accepted items in the conference
+     * @return the bytes of the conference file
+     */
+    public static byte[] renderConference(String conferenceName, ISortedList<Session> sessions,
+            ISortedList<AcceptedItem> proceedings) {
+        StringBuilder out = new StringBuilder();
+        try {
+            writeConference(out, conferenceName, sessions, proceedings);
+        } catch (IOException e) {
+            // a StringBuilder does not throw
+        }
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes to a temporary file in the same directory as the target, forces it
+     * to disk, and moves it over the target.
+     *
+     * @param conferenceFile the file to replace
+     * @param contents writes the contents to the temporary file
+     * @return the size of the file and the time taken by each phase of the save
+     * @throws IllegalArgumentException if the file cannot be written
+     */
+    private static SaveMetrics writeAtomic(File conferenceFile, ChannelContents contents) {
+        Path target;
+        try {
+            target = conferenceFile.getAbsoluteFile().toPath();
+        } catch (InvalidPathException e) {
+            throw new IllegalArgumentException("Unable to save file.");
+        }
+        Path temp = target.resolveSibling("." + target.getFileName() + "."
+                + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+        try {
+            long start = System.nanoTime();
+            long bytes;
+            long written;
+            long forced;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE_NEW)) {
+                copyPermissions(target, temp);
+                contents.writeTo(channel);
+                bytes = channel.size();
+                written = System.nanoTime();
+                channel.force(true);
+                forced = System.nanoTime();
             }
 
-            // Write accepted items not assigned to any session
-            writer.println("# +++");
-            for (int i = 0; i < proceedings.size(); i++) {
-                AcceptedItem item = proceedings.get(i);
-                if (item.getSession() == null) {
-                    writer.println("* " + item.toString());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(target.getParent());
+            long moved = System.nanoTime();
+            return new SaveMetrics(bytes, written - start, forced - written, moved - forced);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to save file.");
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                // the temporary file is left behind
+            }
+        }
+    }
+
+    /**
+     * Gives the temporary file the same permissions as the file it replaces,
+     * if the file exists and the file system has POSIX permissions.
+     *
+     * @param target the file being replaced
+     * @param temp the temporary file
+     */
+    private static void copyPermissions(Path target, Path temp) {
+        try {
+            Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+        } catch (IOException | UnsupportedOperationException e) {
+            // keep the default permissions
+        }
+    }
+
+    /**
+     * Forces a directory to disk so that a file moved into it survives a
+     * crash. Not every platform can open a directory, so failures are ignored.
+     *
+     * @param directory the directory to force
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the move has still been made
+        }
+    }
+
+    /**
+     * Writes the conference information to the specified file, rendering the
+     * session blocks in parallel on the common fork/join pool.
+     *
+     * @param conferenceFile the file to write the conference data to
+     * @param conferenceName the name of the conference
+     * @param sessions the sorted list of sessions in the conference
+     * @param proceedings the sorted list of accepted items in the conference
+     * @throws IllegalArgumentException if the file cannot be written
+     */
+    public static void writeConferenceFileParallel(File conferenceFile, String conferenceName,
+                                                   ISortedList<Session> sessions,
+                                                   ISortedList<AcceptedItem> proceedings) {
+        writeConferenceFileParallel(conferenceFile, conferenceName, sessions, proceedings,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Writes the conference information to the specified file, rendering the
+     * session blocks in parallel on the given pool. Groups of sessions are
+     * encoded to UTF-8 bytes on the pool while earlier groups are written
+     * through a FileChannel in sorted order, so the file is byte for byte the
+     * same as from writeConferenceFile. The sessions and their items must not be
+     * changed until the method returns.
+     *
+     * @param conferenceFile the file to write the conference data to
+     * @param conferenceName the name of the conference
+     * @param sessions the sorted list of sessions in the conference
+     * @param proceedings the sorted list of accepted items in the conference
+     * @param pool the pool to render the session blocks on
+     * @throws IllegalArgumentException if the file cannot be written
+     */
+    public static void writeConferenceFileParallel(File conferenceFile, String conferenceName,
+                                                   ISortedList<Session> sessions,
+                                                   ISortedList<AcceptedItem> proceedings, ForkJoinPool pool) {
+        writeConferenceFileParallel(conferenceFile, conferenceName, sessions, proceedings, pool,
+                SESSIONS_PER_TASK);
+    }
+
+    /**
+     * Writes the conference information to the specified file, rendering the
+     * given number of sessions in each task on the pool. At most a few tasks
+     * per thread are rendered ahead of the writing.
+     *
+     * @param conferenceFile the file to write the conference data to
+     * @param conferenceName the name of the conference
+     * @param sessions the sorted list of sessions in the conference
+     * @param proceedings the sorted list of accepted items in the conference
+     * @param pool the pool to render the session blocks on
+     * @param sessionsPerTask the number of sessions rendered by each task
+     * @throws IllegalArgumentException if the file cannot be written
+     */
+    static void writeConferenceFileParallel(File conferenceFile, String conferenceName,
+            ISortedList<Session> sessions, ISortedList<AcceptedItem> proceedings, ForkJoinPool pool,
+            int sessionsPerTask) {
+        Session[] ordered = new Session[sessions.size()];
+        int count = 0;
+        for (Session session : sessions) {
+            ordered[count++] = session;
+        }
+        int maxRendering = 4 * pool.getParallelism();
+        Deque<Future<byte[]>> rendering = new ArrayDeque<Future<byte[]>>();
+
+        try (FileChannel channel = FileChannel.open(conferenceFile.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+                ChannelBlockWriter writer = new ChannelBlockWriter(channel, BufferPool.SHARED)) {
+            writer.write(conferenceName + LINE_SEPARATOR);
+            int next = 0;
+            while (next < ordered.length || !rendering.isEmpty()) {
+                while (next < ordered.length && rendering.size() < maxRendering) {
+                    int from = next;
+                    int to = Math.min(ordered.length, next + sessionsPerTask);
+                    rendering.add(pool.submit(() -> renderSessions(ordered, from, to)));
+                    next = to;
                 }
+                writer.write(rendering.remove().get());
             }
 
-        } catch (FileNotFoundException e) {
+            StringBuilder block = new StringBuilder();
+            writeUnassigned(block, proceedings);
+            writer.write(block);
+        } catch (IOException | ExecutionException e) {
             throw new IllegalArgumentException("Unable to save file.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalArgumentException("Unable to save file.");
+        } finally {
+            for (Future<byte[]> task : rendering) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Renders the blocks of a range of sessions as UTF-8 bytes.
+     *
+     * @param sessions the sessions in sorted order
+     * @param from the index of the first session to render
+     * @param to the index just past the last session to render
+     * @return the encoded session blocks
+     * @throws IOException if a block cannot be rendered
+     */
+    private static byte[] renderSessions(Session[] sessions, int from, int to) throws IOException {
+        StringBuilder blocks = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            writeSession(blocks, sessions[i]);
+        }
+        return blocks.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends the conference in the file format to the given output. Each
+     * session is followed by its items, and then the items that are not in a
+     * session follow the "# +++" line.
+     *
+     * @param out the output to append to
+     * @param conferenceName the name of the conference
+     * @param sessions the sorted list of sessions in the conference
+     * @param proceedings the sorted list of accepted items in the conference
+     * @throws IOException if the output cannot be written
+     */
+    static void writeConference(Appendable out, String conferenceName, ISortedList<Session> sessions,
+            ISortedList<AcceptedItem> proceedings) throws IOException {
+        // Write conference name
+        out.append(conferenceName).append(LINE_SEPARATOR);
+
+        // Write sessions and their accepted items
+        for (Session session : sessions) {
+            writeSession(out, session);
         }
+
+        // Write accepted items not assigned to any session
+        writeUnassigned(out, proceedings);
+    }
+
+    /**
+     * Appends a session line followed by a line for each of its items.
+     *
+     * @param out the output to append to
+     * @param session the session to write
+     * @throws IOException if the output cannot be written
+     */
+    static void writeSession(Appendable out, Session session) throws IOException {
+        out.append("# ").append(session.getName()).append(',')
+                .append(Integer.toString(session.getDuration())).append(LINE_SEPARATOR);
+
+        for (AcceptedItem item : session.getItemList()) {
+            out.append("* ").append(item.toString()).append(LINE_SEPARATOR);
+        }
+    }
+
+    /**
+     * Appends the "# +++" line followed by a line for each accepted item that
+     * is not in a session.
+     *
+     * @param out the output to append to
+     * @param proceedings the sorted list of accepted items in the conference
+     * @throws IOException if the output cannot be written
+     */
+    static void writeUnassigned(Appendable out, ISortedList<AcceptedItem> proceedings) throws IOException {
+        out.append("# +++").append(LINE_SEPARATOR);
+        for (AcceptedItem item : proceedings) {
+            if (item.getSession() == null) {
+                out.append("* ").append(item.toString()).append(LINE_SEPARATOR);
+            }
+        }
+    }
+
+    /**
+     * Writes the contents of a file to an open channel.
+     */
+    private interface ChannelContents {
+
+        /**
+         * Writes the contents to the channel.
+         *
+         * @param channel the channel to write to
+         * @throws IOException if the channel cannot be written
+         */
+        void writeTo(FileChannel channel) throws IOException;
     }
 }
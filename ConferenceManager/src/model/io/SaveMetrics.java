@@ -0,0 +1,94 @@
+package edu.ncsu.csc216.wolf_proceedings.model.io;
+
+/**
+ * Records how long each phase of an atomic save took: writing the temporary
+ * file, forcing it to disk, and moving it over the target file. Times are in
+ * nanoseconds.
+ *
+ * @author Vamsi Gaddipati
+ */
+public class SaveMetrics {
+
+    /** The number of bytes written */
+    private final long bytes;
+
+    /** The time spent writing the temporary file */
+    private final long writeNanos;
+
+    /** The time spent forcing the temporary file to disk */
+    private final long fsyncNanos;
+
+    /** The time spent moving the temporary file over the target */
+    private final long moveNanos;
+
+    /**
+     * Constructs the metrics of one save.
+     *
+     * @param bytes the number of bytes written
+     * @param writeNanos the time spent writing the temporary file
+     * @param fsyncNanos the time spent forcing the temporary file to disk
+     * @param moveNanos the time spent moving the temporary file over the target
+     */
+    public SaveMetrics(long bytes, long writeNanos, long fsyncNanos, long moveNanos) {
+        this.bytes = bytes;
+        this.writeNanos = writeNanos;
+        this.fsyncNanos = fsyncNanos;
+        this.moveNanos = moveNanos;
+    }
+
+    /**
+     * Returns the number of bytes written.
+     *
+     * @return the size of the saved file in bytes
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the time spent writing the temporary file.
+     *
+     * @return the write time in nanoseconds
+     */
+    public long getWriteNanos() {
+        return writeNanos;
+    }
+
+    /**
+     * Returns the time spent forcing the temporary file to disk.
+     *
+     * @return the fsync time in nanoseconds
+     */
+    public long getFsyncNanos() {
+        return fsyncNanos;
+    }
+
+    /**
+     * Returns the time spent moving the temporary file over the target.
+     *
+     * @return the move time in nanoseconds
+     */
+    public long getMoveNanos() {
+        return moveNanos;
+    }
+
+    /**
+     * Returns the total time of the save.
+     *
+     * @return the sum of the phase times in nanoseconds
+     */
+    public long getTotalNanos() {
+        return writeNanos + fsyncNanos + moveNanos;
+    }
+
+    /**
+     * Returns the metrics as a short summary in milliseconds.
+     *
+     * @return a summary of the save
+     */
+    @Override
+    public String toString() {
+        return String.format("%d bytes, write %.1f ms, fsync %.1f ms, move %.1f ms", bytes, writeNanos / 1e6,
+                fsyncNanos / 1e6, moveNanos / 1e6);
+    }
+}
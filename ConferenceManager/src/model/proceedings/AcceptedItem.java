@@ -112,14 +112,19 @@ public abstract class AcceptedItem implements Comparable<AcceptedItem> {
     }
 
     /**
-     * Sets the duration of the item.
+     * Sets the duration of the item. If the item is in a session, the
+     * session's used time is updated to match.
      * @param duration The new duration in minutes.
      */
     public void setDuration(int duration) {
     	if (duration < MIN_DURATION || duration > MAX_DURATION) {
             throw new IllegalArgumentException("Invalid accepted item.");
         }
+        int oldDuration = this.duration;
         this.duration = duration;
+        if (selectedSession != null) {
+            selectedSession.updateItemDuration(oldDuration, duration);
+        }
     }
 
     /**
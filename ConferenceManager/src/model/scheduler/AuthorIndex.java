@@ -0,0 +1,70 @@
+package edu.ncsu.csc216.wolf_proceedings.model.scheduler;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.AcceptedItem;
+import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
+
+/**
+ * Numbers the distinct authors of a conference so that sets of authors can be
+ * kept as bit sets and checked for overlap quickly. The authors of an item are
+ * its authors string split on semicolons, with spaces trimmed and case
+ * ignored, so "Ann Lee; Bo Chen" and "bo chen;ann lee" have the same authors.
+ *
+ * @author Vamsi Gaddipati
+ */
+final class AuthorIndex {
+
+    /** The number of each author name seen, by normalized name */
+    private final Map<String, Integer> numbers = new HashMap<String, Integer>();
+
+    /**
+     * Returns the authors of an item as a set of author numbers, numbering
+     * authors not seen before.
+     *
+     * @param item the accepted item
+     * @return the authors of the item
+     */
+    BitSet authorsOf(AcceptedItem item) {
+        BitSet authors = new BitSet();
+        for (String name : item.getAuthors().split(";")) {
+            String key = name.trim().toLowerCase(Locale.ROOT);
+            if (!key.isEmpty()) {
+                Integer number = numbers.get(key);
+                if (number == null) {
+                    number = numbers.size();
+                    numbers.put(key, number);
+                }
+                authors.set(number);
+            }
+        }
+        return authors;
+    }
+
+    /**
+     * Returns the authors of the items in a session, numbering authors not
+     * seen before.
+     *
+     * @param session the session
+     * @return the authors of the session's items
+     */
+    BitSet authorsOf(Session session) {
+        BitSet authors = new BitSet();
+        for (AcceptedItem item : session.getItemList()) {
+            authors.or(authorsOf(item));
+        }
+        return authors;
+    }
+
+    /**
+     * Returns the number of distinct authors seen.
+     *
+     * @return the number of authors
+     */
+    int size() {
+        return numbers.size();
+    }
+}
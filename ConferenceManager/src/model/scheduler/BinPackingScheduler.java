@@ -0,0 +1,146 @@
+package edu.ncsu.csc216.wolf_proceedings.model.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.TreeMap;
+
+import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
+
+/**
+ * Places the unassigned accepted items of a conference into its existing
+ * sessions without going over any session's remaining capacity. Items are
+ * considered from longest to shortest and each is put in a session chosen by
+ * the strategy; items that fit nowhere stay unassigned.
+ *
+ * Planning takes O(n log n + m log m) time for n unassigned items and m
+ * sessions.
+ *
+ * @author Vamsi Gaddipati
+ */
+public class BinPackingScheduler {
+
+    /**
+     * The ways of choosing a session for each item.
+     */
+    public enum Strategy {
+        /** Put each item in the first session, in session order, that has room */
+        FIRST_FIT_DECREASING,
+        /** Put each item in the session with the least room that still fits it */
+        BEST_FIT_DECREASING
+    }
+
+    /**
+     * Plans a schedule for the unassigned items of a conference without
+     * changing the conference.
+     *
+     * @param conference the conference to schedule
+     * @param strategy the way of choosing sessions
+     * @return the planned schedule
+     * @throws IllegalArgumentException if the conference or strategy is null
+     */
+    public static Schedule plan(Conference conference, Strategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Invalid strategy.");
+        }
+        PackingProblem problem = new PackingProblem(conference);
+        int[] order = problem.byDecreasingDuration();
+        int[] sessionOf;
+        if (strategy == Strategy.FIRST_FIT_DECREASING) {
+            sessionOf = firstFit(problem, order);
+        } else {
+            sessionOf = bestFit(problem, order);
+        }
+        return problem.toSchedule(sessionOf);
+    }
+
+    /**
+     * Plans a schedule for the unassigned items of a conference and applies it.
+     *
+     * @param conference the conference to schedule
+     * @param strategy the way of choosing sessions
+     * @return the applied schedule
+     * @throws IllegalArgumentException if the conference or strategy is null
+     */
+    public static Schedule schedule(Conference conference, Strategy strategy) {
+        Schedule schedule = plan(conference, strategy);
+        schedule.apply();
+        return schedule;
+    }
+
+    /**
+     * Places items with first fit. A tree of the largest remaining capacity
+     * over ranges of sessions finds the first session with room in O(log m).
+     *
+     * @param problem the sessions and items
+     * @param order the items in the order to place them
+     * @return the session of each item, or -1 if it was not placed
+     */
+    private static int[] firstFit(PackingProblem problem, int[] order) {
+        int m = problem.getSessionCount();
+        int leaves = 1;
+        while (leaves < m) {
+            leaves <<= 1;
+        }
+        int[] tree = new int[2 * leaves];
+        int[] capacities = problem.getCapacities();
+        for (int s = 0; s < m; s++) {
+            tree[leaves + s] = capacities[s];
+        }
+        for (int node = leaves - 1; node > 0; node--) {
+            tree[node] = Math.max(tree[2 * node], tree[2 * node + 1]);
+        }
+
+        int[] sessionOf = new int[problem.getItemCount()];
+        for (int item : order) {
+            int duration = problem.getDuration(item);
+            if (m == 0 || tree[1] < duration) {
+                sessionOf[item] = -1;
+                continue;
+            }
+            int node = 1;
+            while (node < leaves) {
+                node = tree[2 * node] >= duration ? 2 * node : 2 * node + 1;
+            }
+            sessionOf[item] = node - leaves;
+            tree[node] -= duration;
+            for (node >>= 1; node > 0; node >>= 1) {
+                tree[node] = Math.max(tree[2 * node], tree[2 * node + 1]);
+            }
+        }
+        return sessionOf;
+    }
+
+    /**
+     * Places items with best fit. Sessions are kept in buckets by remaining
+     * capacity, so the tightest session with room is found in O(log m).
+     *
+     * @param problem the sessions and items
+     * @param order the items in the order to place them
+     * @return the session of each item, or -1 if it was not placed
+     */
+    private static int[] bestFit(PackingProblem problem, int[] order) {
+        TreeMap<Integer, ArrayDeque<Integer>> byCapacity = new TreeMap<Integer, ArrayDeque<Integer>>();
+        int[] capacities = problem.getCapacities();
+        for (int s = 0; s < capacities.length; s++) {
+            byCapacity.computeIfAbsent(capacities[s], c -> new ArrayDeque<Integer>()).addLast(s);
+        }
+
+        int[] sessionOf = new int[problem.getItemCount()];
+        for (int item : order) {
+            int duration = problem.getDuration(item);
+            Map.Entry<Integer, ArrayDeque<Integer>> entry = byCapacity.ceilingEntry(duration);
+            if (entry == null) {
+                sessionOf[item] = -1;
+                continue;
+            }
+            ArrayDeque<Integer> bucket = entry.getValue();
+            int s = bucket.pollFirst();
+            if (bucket.isEmpty()) {
+                byCapacity.remove(entry.getKey());
+            }
+            sessionOf[item] = s;
+            byCapacity.computeIfAbsent(entry.getKey() - duration, c -> new ArrayDeque<Integer>()).addLast(s);
+        }
+        return sessionOf;
+    }
+}
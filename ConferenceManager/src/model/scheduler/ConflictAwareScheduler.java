@@ -0,0 +1,277 @@
+package edu.ncsu.csc216.wolf_proceedings.model.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.TreeSet;
+
+import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
+
+/**
+ * Schedules sessions into time slots and accepted items into sessions so that
+ * no author has to be in two sessions at once. Sessions in the same time slot
+ * run in parallel tracks, so two of them conflict if they share an author.
+ * An author may appear more than once in the same session, and sessions
+ * without a time slot do not run at the same time as any other.
+ *
+ * Author overlap is treated as a graph coloring problem. Authors are numbered
+ * and the authors of each item and session are kept as bit sets, so overlap
+ * is found by checking bits instead of comparing names.
+ *
+ * @author Vamsi Gaddipati
+ */
+public class ConflictAwareScheduler {
+
+    /**
+     * Puts every session of a conference into a time slot with at most the
+     * given number of sessions per slot, so that no two sessions in a slot
+     * share an author. Sessions are colored in DSatur order: the next session
+     * is the one whose conflicting sessions already use the most different
+     * slots, then the one with the most conflicting sessions. Each gets the
+     * first slot that has room and holds no conflicting session. The slots are
+     * set through Conference.setSessionTimeSlot in one batch, so the
+     * conference is marked as changed if any slot moves and listeners are told
+     * about those sessions together.
+     *
+     * @param conference the conference whose sessions to place
+     * @param tracks the most sessions that can run at the same time
+     * @return the number of time slots used
+     * @throws IllegalArgumentException if the conference is null or tracks is not positive
+     */
+    public static int assignTimeSlots(Conference conference, int tracks) {
+        if (conference == null) {
+            throw new IllegalArgumentException("Invalid conference.");
+        }
+        if (tracks <= 0) {
+            throw new IllegalArgumentException("Invalid tracks.");
+        }
+        int m = conference.getSessionCount();
+        BitSet[] authors = sessionAuthors(conference, new AuthorIndex());
+
+        // sessions that share an author, found through the sessions of each author
+        List<List<Integer>> sessionsOf = new ArrayList<List<Integer>>();
+        for (int s = 0; s < m; s++) {
+            for (int a = authors[s].nextSetBit(0); a >= 0; a = authors[s].nextSetBit(a + 1)) {
+                while (sessionsOf.size() <= a) {
+                    sessionsOf.add(new ArrayList<Integer>());
+                }
+                sessionsOf.get(a).add(s);
+            }
+        }
+        BitSet[] neighbors = new BitSet[m];
+        for (int s = 0; s < m; s++) {
+            neighbors[s] = new BitSet(m);
+        }
+        for (List<Integer> group : sessionsOf) {
+            for (int s : group) {
+                for (int t : group) {
+                    if (s != t) {
+                        neighbors[s].set(t);
+                    }
+                }
+            }
+        }
+
+        int[] slot = new int[m];
+        BitSet[] neighborSlots = new BitSet[m];
+        for (int s = 0; s < m; s++) {
+            slot[s] = -1;
+            neighborSlots[s] = new BitSet();
+        }
+        List<Integer> slotSizes = new ArrayList<Integer>();
+        for (int colored = 0; colored < m; colored++) {
+            int next = -1;
+            for (int s = 0; s < m; s++) {
+                if (slot[s] < 0 && (next < 0
+                        || neighborSlots[s].cardinality() > neighborSlots[next].cardinality()
+                        || neighborSlots[s].cardinality() == neighborSlots[next].cardinality()
+                                && neighbors[s].cardinality() > neighbors[next].cardinality())) {
+                    next = s;
+                }
+            }
+            int t = neighborSlots[next].nextClearBit(0);
+            while (t < slotSizes.size() && slotSizes.get(t) >= tracks) {
+                t = neighborSlots[next].nextClearBit(t + 1);
+            }
+            if (t == slotSizes.size()) {
+                slotSizes.add(0);
+            }
+            slotSizes.set(t, slotSizes.get(t) + 1);
+            slot[next] = t;
+            for (int u = neighbors[next].nextSetBit(0); u >= 0; u = neighbors[next].nextSetBit(u + 1)) {
+                neighborSlots[u].set(t);
+            }
+        }
+
+        conference.beginBatch();
+        try {
+            for (int s = 0; s < m; s++) {
+                conference.setSessionTimeSlot(s, slot[s]);
+            }
+        } finally {
+            conference.endBatch();
+        }
+        return slotSizes.size();
+    }
+
+    /**
+     * Plans a placement of the unassigned items of a conference into its
+     * sessions that stays within each session's remaining capacity and does
+     * not put an author in two sessions of the same time slot. Items are
+     * placed most constrained first: those sharing authors with the most
+     * other items, then the longest. Each goes into the session with the
+     * least remaining capacity that fits it without a conflict. The
+     * conference is not changed. The schedule records the time slot and
+     * authors of each session, and cannot be applied once any of them has
+     * changed.
+     *
+     * @param conference the conference to schedule
+     * @return the planned schedule
+     * @throws IllegalArgumentException if the conference is null
+     */
+    public static Schedule plan(Conference conference) {
+        PackingProblem problem = new PackingProblem(conference);
+        AuthorIndex index = new AuthorIndex();
+        BitSet[] authors = sessionAuthors(conference, index);
+        int m = problem.getSessionCount();
+
+        int[] slot = new int[m];
+        List<List<Integer>> sessionsInSlot = new ArrayList<List<Integer>>();
+        for (int s = 0; s < m; s++) {
+            slot[s] = conference.getSession(s).getTimeSlot();
+            if (slot[s] >= 0) {
+                while (sessionsInSlot.size() <= slot[s]) {
+                    sessionsInSlot.add(new ArrayList<Integer>());
+                }
+                sessionsInSlot.get(slot[s]).add(s);
+            }
+        }
+        SessionAuthors planned = new SessionAuthors(index, slot, authors);
+
+        int n = problem.getItemCount();
+        BitSet[] itemAuthors = new BitSet[n];
+        for (int k = 0; k < n; k++) {
+            itemAuthors[k] = index.authorsOf(conference.getAcceptedItem(problem.getItemIndex(k)));
+        }
+        int[] itemsPerAuthor = new int[index.size()];
+        for (BitSet set : itemAuthors) {
+            for (int a = set.nextSetBit(0); a >= 0; a = set.nextSetBit(a + 1)) {
+                itemsPerAuthor[a]++;
+            }
+        }
+        long[] keys = new long[n];
+        for (int k = 0; k < n; k++) {
+            long degree = 0;
+            for (int a = itemAuthors[k].nextSetBit(0); a >= 0; a = itemAuthors[k].nextSetBit(a + 1)) {
+                degree += itemsPerAuthor[a] - 1;
+            }
+            // most shared authors first, then longest, then proceedings order
+            keys[k] = -(degree << 40 | (long) problem.getDuration(k) << 24) + k;
+        }
+        Arrays.sort(keys);
+
+        // sessions by remaining capacity then index, so the tightest fit comes first
+        TreeSet<Long> byCapacity = new TreeSet<Long>();
+        int[] capacities = problem.getCapacities();
+        for (int s = 0; s < m; s++) {
+            byCapacity.add((long) capacities[s] << 32 | s);
+        }
+
+        int[] sessionOf = new int[n];
+        for (long key : keys) {
+            int k = (int) (key & 0xFFFFFF);
+            int duration = problem.getDuration(k);
+            sessionOf[k] = -1;
+            for (long entry : byCapacity.tailSet((long) duration << 32)) {
+                int s = (int) entry;
+                if (!conflicts(itemAuthors[k], s, slot, sessionsInSlot, authors)) {
+                    sessionOf[k] = s;
+                    byCapacity.remove(entry);
+                    capacities[s] -= duration;
+                    byCapacity.add((long) capacities[s] << 32 | s);
+                    authors[s].or(itemAuthors[k]);
+                    break;
+                }
+            }
+        }
+        return problem.toSchedule(sessionOf, planned);
+    }
+
+    /**
+     * Plans a conflict-free placement of the unassigned items of a conference
+     * and applies it.
+     *
+     * @param conference the conference to schedule
+     * @return the applied schedule
+     * @throws IllegalArgumentException if the conference is null
+     */
+    public static Schedule schedule(Conference conference) {
+        Schedule schedule = plan(conference);
+        schedule.apply();
+        return schedule;
+    }
+
+    /**
+     * Counts the pairs of sessions in the same time slot that share an author.
+     *
+     * @param conference the conference to check
+     * @return the number of conflicting pairs of sessions
+     * @throws IllegalArgumentException if the conference is null
+     */
+    public static int countConflicts(Conference conference) {
+        if (conference == null) {
+            throw new IllegalArgumentException("Invalid conference.");
+        }
+        BitSet[] authors = sessionAuthors(conference, new AuthorIndex());
+        int conflicts = 0;
+        for (int s = 0; s < authors.length; s++) {
+            int slot = conference.getSession(s).getTimeSlot();
+            for (int t = s + 1; slot >= 0 && t < authors.length; t++) {
+                if (conference.getSession(t).getTimeSlot() == slot && authors[s].intersects(authors[t])) {
+                    conflicts++;
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns true if an item would put one of its authors in two sessions of
+     * the same time slot if added to the given session.
+     *
+     * @param item the authors of the item
+     * @param session the session the item would be added to
+     * @param slot the time slot of each session
+     * @param sessionsInSlot the sessions in each time slot
+     * @param authors the authors of each session
+     * @return true if another session in the slot shares an author with the item
+     */
+    private static boolean conflicts(BitSet item, int session, int[] slot, List<List<Integer>> sessionsInSlot,
+            BitSet[] authors) {
+        if (slot[session] < 0) {
+            return false;
+        }
+        for (int other : sessionsInSlot.get(slot[session])) {
+            if (other != session && authors[other].intersects(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the authors of the items in each session of a conference.
+     *
+     * @param conference the conference
+     * @param index numbers the authors
+     * @return the authors of each session in session order
+     */
+    private static BitSet[] sessionAuthors(Conference conference, AuthorIndex index) {
+        BitSet[] authors = new BitSet[conference.getSessionCount()];
+        for (int s = 0; s < authors.length; s++) {
+            authors[s] = index.authorsOf(conference.getSession(s));
+        }
+        return authors;
+    }
+}
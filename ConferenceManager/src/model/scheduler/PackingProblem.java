@@ -0,0 +1,211 @@
+package edu.ncsu.csc216.wolf_proceedings.model.scheduler;
+
+import java.util.Arrays;
+
+import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.AcceptedItem;
+import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
+
+/**
+ * The remaining capacity of each session of a conference and the duration of
+ * each unassigned accepted item, read once so that schedulers work on plain
+ * arrays. Sessions are numbered by their index in the conference, and items
+ * by their position among the unassigned items in proceedings order.
+ *
+ * @author Vamsi Gaddipati
+ */
+final class PackingProblem {
+
+    /** The conference the problem was read from */
+    private final Conference conference;
+
+    /** The sessions in conference order */
+    private final Session[] sessions;
+
+    /** The remaining capacity of each session */
+    private final int[] capacities;
+
+    /** The proceedings index of each unassigned item */
+    private final int[] itemIndexes;
+
+    /** The unassigned items in proceedings order */
+    private final AcceptedItem[] items;
+
+    /** The duration of each unassigned item */
+    private final int[] durations;
+
+    /** The total duration of all sessions */
+    private final long totalCapacity;
+
+    /** The minutes already used in the sessions */
+    private final long usedMinutes;
+
+    /**
+     * Reads the sessions and unassigned items of a conference. Both lists are
+     * read in order, which takes linear time for every list implementation.
+     *
+     * @param conference the conference to read
+     * @throws IllegalArgumentException if the conference is null
+     */
+    PackingProblem(Conference conference) {
+        if (conference == null) {
+            throw new IllegalArgumentException("Invalid conference.");
+        }
+        this.conference = conference;
+
+        int sessionCount = conference.getSessionCount();
+        sessions = new Session[sessionCount];
+        capacities = new int[sessionCount];
+        long total = 0;
+        long used = 0;
+        for (int s = 0; s < sessionCount; s++) {
+            Session session = conference.getSession(s);
+            sessions[s] = session;
+            capacities[s] = Math.max(0, session.getRemainingCapacity());
+            total += session.getDuration();
+            used += session.getUsedCapacity();
+        }
+        totalCapacity = total;
+        usedMinutes = used;
+
+        int itemCount = conference.getAcceptedItemCount();
+        int[] indexes = new int[itemCount];
+        AcceptedItem[] unassigned = new AcceptedItem[itemCount];
+        int[] minutes = new int[itemCount];
+        int n = 0;
+        for (int i = 0; i < itemCount; i++) {
+            AcceptedItem item = conference.getAcceptedItem(i);
+            if (item.getSession() == null) {
+                indexes[n] = i;
+                unassigned[n] = item;
+                minutes[n] = item.getDuration();
+                n++;
+            }
+        }
+        itemIndexes = Arrays.copyOf(indexes, n);
+        items = Arrays.copyOf(unassigned, n);
+        durations = Arrays.copyOf(minutes, n);
+    }
+
+    /**
+     * Returns the conference the problem was read from.
+     *
+     * @return the conference
+     */
+    Conference getConference() {
+        return conference;
+    }
+
+    /**
+     * Returns the number of sessions.
+     *
+     * @return the number of sessions
+     */
+    int getSessionCount() {
+        return capacities.length;
+    }
+
+    /**
+     * Returns a copy of the remaining capacity of each session.
+     *
+     * @return the remaining capacities in session order
+     */
+    int[] getCapacities() {
+        return capacities.clone();
+    }
+
+    /**
+     * Returns the number of unassigned items.
+     *
+     * @return the number of items to place
+     */
+    int getItemCount() {
+        return durations.length;
+    }
+
+    /**
+     * Returns the duration of an unassigned item.
+     *
+     * @param item the number of the item among the unassigned items
+     * @return the duration of the item in minutes
+     */
+    int getDuration(int item) {
+        return durations[item];
+    }
+
+    /**
+     * Returns the proceedings index of an unassigned item.
+     *
+     * @param item the number of the item among the unassigned items
+     * @return the index of the item in the conference proceedings
+     */
+    int getItemIndex(int item) {
+        return itemIndexes[item];
+    }
+
+    /**
+     * Returns the unassigned items from longest to shortest, with items of the
+     * same duration in proceedings order.
+     *
+     * @return the item numbers in decreasing order of duration
+     */
+    int[] byDecreasingDuration() {
+        long[] keys = new long[durations.length];
+        for (int k = 0; k < keys.length; k++) {
+            keys[k] = (long) -durations[k] << 32 | k;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[keys.length];
+        for (int k = 0; k < keys.length; k++) {
+            order[k] = (int) keys[k];
+        }
+        return order;
+    }
+
+    /**
+     * Builds a schedule from the session chosen for each unassigned item.
+     *
+     * @param sessionOf the session of each item, or -1 if the item is not placed
+     * @return the schedule
+     */
+    Schedule toSchedule(int[] sessionOf) {
+        return toSchedule(sessionOf, null);
+    }
+
+    /**
+     * Builds a schedule from the session chosen for each unassigned item that
+     * also checks the sessions' time slots and authors before it is applied.
+     *
+     * @param sessionOf the session of each item, or -1 if the item is not placed
+     * @param sessionAuthors the time slots and authors the schedule was planned
+     *        around, or null if it does not depend on them
+     * @return the schedule
+     */
+    Schedule toSchedule(int[] sessionOf, SessionAuthors sessionAuthors) {
+        int placed = 0;
+        for (int s : sessionOf) {
+            if (s >= 0) {
+                placed++;
+            }
+        }
+        int[] placedIndexes = new int[placed];
+        AcceptedItem[] placedItems = new AcceptedItem[placed];
+        int[] sessionIndexes = new int[placed];
+        long placedMinutes = 0;
+        long unplacedMinutes = 0;
+        int j = 0;
+        for (int k = 0; k < sessionOf.length; k++) {
+            if (sessionOf[k] >= 0) {
+                placedIndexes[j] = itemIndexes[k];
+                placedItems[j] = items[k];
+                sessionIndexes[j] = sessionOf[k];
+                placedMinutes += durations[k];
+                j++;
+            } else {
+                unplacedMinutes += durations[k];
+            }
+        }
+        return new Schedule(conference, sessions, placedIndexes, placedItems, sessionIndexes, sessionAuthors,
+                totalCapacity, usedMinutes, placedMinutes, sessionOf.length - placed, unplacedMinutes);
+    }
+}
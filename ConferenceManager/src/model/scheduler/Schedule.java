@@ -0,0 +1,268 @@
+package edu.ncsu.csc216.wolf_proceedings.model.scheduler;
+
+import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.AcceptedItem;
+import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
+
+/**
+ * A planned assignment of unassigned accepted items to sessions of a
+ * conference, with the utilization the sessions would have once it is
+ * applied. Items and sessions are identified by their indexes in the
+ * conference, so a schedule is meant to be applied before the conference is
+ * changed in any other way. If it has changed, apply finds that out before
+ * assigning anything and leaves the conference as it is.
+ *
+ * @author Vamsi Gaddipati
+ */
+public class Schedule {
+
+    /** The conference the schedule was planned for */
+    private final Conference conference;
+
+    /** The sessions of the conference when the schedule was planned */
+    private final Session[] sessions;
+
+    /** The proceedings index of each assigned item, in increasing order */
+    private final int[] itemIndexes;
+
+    /** The item at each proceedings index when the schedule was planned */
+    private final AcceptedItem[] items;
+
+    /** The index of the session each item is assigned to */
+    private final int[] sessionIndexes;
+
+    /** The time slots and authors the schedule was planned around, or null */
+    private final SessionAuthors sessionAuthors;
+
+    /** The total duration of all sessions in minutes */
+    private final long totalCapacity;
+
+    /** The minutes used in the sessions before the schedule is applied */
+    private final long usedBefore;
+
+    /** The minutes of the items the schedule places */
+    private final long placedMinutes;
+
+    /** The number of unassigned items the schedule could not place */
+    private final int unplacedCount;
+
+    /** The minutes of the items the schedule could not place */
+    private final long unplacedMinutes;
+
+    /** True once the schedule has been applied */
+    private boolean applied;
+
+    /**
+     * Constructs a schedule. The schedulers create schedules.
+     *
+     * @param conference the conference the schedule was planned for
+     * @param sessions the sessions of the conference in order
+     * @param itemIndexes the proceedings index of each assigned item, in increasing order
+     * @param items the item at each of those indexes
+     * @param sessionIndexes the index of the session each item is assigned to
+     * @param sessionAuthors the time slots and authors of the sessions the
+     *        schedule was planned around, or null if it does not depend on them
+     * @param totalCapacity the total duration of all sessions
+     * @param usedBefore the minutes used in the sessions before the schedule
+     * @param placedMinutes the minutes of the items placed
+     * @param unplacedCount the number of unassigned items left unplaced
+     * @param unplacedMinutes the minutes of the items left unplaced
+     */
+    Schedule(Conference conference, Session[] sessions, int[] itemIndexes, AcceptedItem[] items,
+            int[] sessionIndexes, SessionAuthors sessionAuthors, long totalCapacity, long usedBefore, long placedMinutes, int unplacedCount,
+            long unplacedMinutes) {
+        this.conference = conference;
+        this.sessions = sessions;
+        this.itemIndexes = itemIndexes;
+        this.items = items;
+        this.sessionIndexes = sessionIndexes;
+        this.sessionAuthors = sessionAuthors;
+        this.totalCapacity = totalCapacity;
+        this.usedBefore = usedBefore;
+        this.placedMinutes = placedMinutes;
+        this.unplacedCount = unplacedCount;
+        this.unplacedMinutes = unplacedMinutes;
+    }
+
+    /**
+     * Assigns the planned items to their sessions through
+     * Conference.addItemsToSessions, which takes the sessions and items the
+     * schedule holds rather than looking them up by index, so applying takes
+     * linear time like planning. The assignments are made in one batch, so
+     * listeners are told about them together. Items are assigned in
+     * proceedings order, so the items each session gains keep their
+     * proceedings order within it.
+     *
+     * Before anything is assigned, the conference is checked to still have
+     * the same sessions and the same items at the planned indexes, with every
+     * planned item unassigned and every session able to hold the items
+     * planned for it. A conflict-aware schedule also needs every session in
+     * the same time slot with the same authors, since otherwise it could put
+     * an author in two sessions at once. If not, nothing is assigned and the schedule can be
+     * planned again.
+     *
+     * @throws IllegalStateException if the schedule has already been applied
+     *         or the conference has changed so that it no longer fits
+     */
+    public void apply() {
+        if (applied) {
+            throw new IllegalStateException("Schedule already applied.");
+        }
+        if (!isCurrent()) {
+            throw new IllegalStateException("Schedule is out of date.");
+        }
+        Session[] toSessions = new Session[sessionIndexes.length];
+        for (int i = 0; i < sessionIndexes.length; i++) {
+            toSessions[i] = sessions[sessionIndexes[i]];
+        }
+        conference.addItemsToSessions(sessionIndexes, toSessions, itemIndexes, items);
+        applied = true;
+    }
+
+    /**
+     * Returns true if the schedule can still be applied to the conference as
+     * planned. Sessions and items are read in order, which takes linear time
+     * for every list implementation.
+     *
+     * @return true if the sessions and planned items are unchanged and fit
+     */
+    private boolean isCurrent() {
+        if (conference.getSessionCount() != sessions.length) {
+            return false;
+        }
+        for (int s = 0; s < sessions.length; s++) {
+            if (conference.getSession(s) != sessions[s]) {
+                return false;
+            }
+        }
+        long[] needed = new long[sessions.length];
+        int itemCount = conference.getAcceptedItemCount();
+        for (int i = 0; i < itemIndexes.length; i++) {
+            if (itemIndexes[i] >= itemCount || conference.getAcceptedItem(itemIndexes[i]) != items[i]
+                    || items[i].getSession() != null) {
+                return false;
+            }
+            needed[sessionIndexes[i]] += items[i].getDuration();
+        }
+        for (int s = 0; s < sessions.length; s++) {
+            if (needed[s] > 0 && needed[s] > sessions[s].getRemainingCapacity()) {
+                return false;
+            }
+        }
+        return sessionAuthors == null || sessionAuthors.matches(conference);
+    }
+
+    /**
+     * Returns true if the schedule has been applied.
+     *
+     * @return true if apply has been called
+     */
+    public boolean isApplied() {
+        return applied;
+    }
+
+    /**
+     * Returns the number of items the schedule assigns.
+     *
+     * @return the number of assignments
+     */
+    public int getAssignmentCount() {
+        return itemIndexes.length;
+    }
+
+    /**
+     * Returns the proceedings index of the item of an assignment. Assignments
+     * are in increasing order of item index.
+     *
+     * @param i the index of the assignment
+     * @return the index of the item in the proceedings
+     */
+    public int getItemIndex(int i) {
+        return itemIndexes[i];
+    }
+
+    /**
+     * Returns the index of the session of an assignment.
+     *
+     * @param i the index of the assignment
+     * @return the index of the session the item is assigned to
+     */
+    public int getSessionIndex(int i) {
+        return sessionIndexes[i];
+    }
+
+    /**
+     * Returns the number of unassigned items that did not fit in any session.
+     *
+     * @return the number of items left unassigned
+     */
+    public int getUnplacedCount() {
+        return unplacedCount;
+    }
+
+    /**
+     * Returns the total duration of the items that did not fit.
+     *
+     * @return the minutes left unassigned
+     */
+    public long getUnplacedMinutes() {
+        return unplacedMinutes;
+    }
+
+    /**
+     * Returns the total duration of the items the schedule places.
+     *
+     * @return the minutes placed
+     */
+    public long getPlacedMinutes() {
+        return placedMinutes;
+    }
+
+    /**
+     * Returns the total duration of all sessions.
+     *
+     * @return the capacity of the conference in minutes
+     */
+    public long getTotalCapacity() {
+        return totalCapacity;
+    }
+
+    /**
+     * Returns the minutes the sessions use once the schedule is applied.
+     *
+     * @return the used minutes after the schedule
+     */
+    public long getUsedMinutes() {
+        return usedBefore + placedMinutes;
+    }
+
+    /**
+     * Returns the minutes the sessions leave empty once the schedule is applied.
+     *
+     * @return the wasted minutes after the schedule
+     */
+    public long getWastedMinutes() {
+        return totalCapacity - getUsedMinutes();
+    }
+
+    /**
+     * Returns the fraction of the session time used once the schedule is applied.
+     *
+     * @return the utilization from 0 to 1, or 0 if there are no sessions
+     */
+    public double getUtilization() {
+        return totalCapacity == 0 ? 0 : (double) getUsedMinutes() / totalCapacity;
+    }
+
+    /**
+     * Returns a summary of the schedule.
+     *
+     * @return the assignments, wasted minutes, and utilization
+     */
+    @Override
+    public String toString() {
+        return String.format("%d items placed (%d min), %d unplaced (%d min), %d of %d min used, "
+                + "%d wasted, %.1f%% utilization", itemIndexes.length, placedMinutes, unplacedCount,
+                unplacedMinutes, getUsedMinutes(), totalCapacity, getWastedMinutes(), getUtilization() * 100);
+    }
+}
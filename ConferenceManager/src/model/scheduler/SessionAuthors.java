@@ -0,0 +1,60 @@
+package edu.ncsu.csc216.wolf_proceedings.model.scheduler;
+
+import java.util.BitSet;
+
+import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
+
+/**
+ * The time slot and authors of each session of a conference when a
+ * conflict-aware schedule was planned. A schedule that keeps authors out of
+ * parallel sessions only does so while the slots and authors it was planned
+ * around are unchanged, so it checks them again before it is applied.
+ *
+ * @author Vamsi Gaddipati
+ */
+final class SessionAuthors {
+
+    /** Numbers the authors */
+    private final AuthorIndex index;
+
+    /** The time slot of each session */
+    private final int[] slots;
+
+    /** The authors of the items in each session */
+    private final BitSet[] authors;
+
+    /**
+     * Records the time slots and authors of the sessions of a conference.
+     *
+     * @param index numbers the authors, and is kept to number them the same way later
+     * @param slots the time slot of each session, which is kept
+     * @param authors the authors of each session, which are copied
+     */
+    SessionAuthors(AuthorIndex index, int[] slots, BitSet[] authors) {
+        this.index = index;
+        this.slots = slots;
+        this.authors = new BitSet[authors.length];
+        for (int s = 0; s < authors.length; s++) {
+            this.authors[s] = (BitSet) authors[s].clone();
+        }
+    }
+
+    /**
+     * Returns true if every session of a conference is still in the same time
+     * slot with the same authors. The conference is expected to have the same
+     * sessions in the same order. Every assigned item is read, which takes
+     * linear time.
+     *
+     * @param conference the conference to check
+     * @return true if no session has changed its time slot or authors
+     */
+    boolean matches(Conference conference) {
+        for (int s = 0; s < slots.length; s++) {
+            if (conference.getSession(s).getTimeSlot() != slots[s]
+                    || !index.authorsOf(conference.getSession(s)).equals(authors[s])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
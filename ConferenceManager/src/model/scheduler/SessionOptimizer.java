@@ -0,0 +1,547 @@
+package edu.ncsu.csc216.wolf_proceedings.model.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
+
+/**
+ * Searches for the placement of the unassigned accepted items of a conference
+ * that leaves the fewest session minutes unused, which is the placement with
+ * the most item minutes. The search is a branch and bound over the items from
+ * longest to shortest, run in parallel on the common fork/join pool. Each task
+ * searches its part of the tree depth first, and whenever few tasks are left
+ * for idle threads to steal, it hands the untried choices of its shallowest
+ * open node to a new task, so the work spreads out however uneven the tree is.
+ *
+ * Sessions with the same remaining capacity are interchangeable, so the
+ * search only tracks how many sessions have each remaining capacity and
+ * places each item into a capacity rather than a particular session. A branch
+ * is cut when the minutes placed so far plus the smaller of the remaining
+ * item minutes and the remaining session minutes cannot beat the best
+ * placement found. The best-fit-decreasing placement is found first and is
+ * the starting bound, and all searching threads share the bound as it
+ * improves.
+ *
+ * The search is anytime: when its time budget runs out or it is cancelled it
+ * returns the best placement found so far, and isOptimal tells whether that
+ * placement was proven best. Cancelling is final: a search started after
+ * cancel returns the starting placement right away.
+ *
+ * @author Vamsi Gaddipati
+ */
+public class SessionOptimizer {
+
+    /** The number of nodes searched between checks of the clock and of idle threads */
+    private static final int CHECK_INTERVAL = 1024;
+
+    /** Work is handed off while fewer than this many tasks are waiting to be stolen */
+    private static final int SURPLUS_TASKS = 2;
+
+    /** The fewest undecided items a node must have to be handed off */
+    private static final int MIN_SPLIT_ITEMS = 4;
+
+    /** The sessions and items being placed */
+    private final PackingProblem problem;
+
+    /** The items from longest to shortest */
+    private final int[] order;
+
+    /** The duration of each item in search order */
+    private final int[] durations;
+
+    /** The total duration of the items from each position in search order to the end */
+    private final long[] suffixMinutes;
+
+    /** The largest remaining capacity of any session */
+    private final int maxCapacity;
+
+    /** The number of sessions with each remaining capacity before any item is placed */
+    private final int[] initialCounts;
+
+    /** The total remaining capacity before any item is placed */
+    private final int initialCapacity;
+
+    /** The most minutes that could possibly be placed */
+    private final long upperBound;
+
+    /** The minutes placed by the best placement found, shared by all tasks */
+    private final AtomicInteger bestMinutes = new AtomicInteger();
+
+    /** The number of search nodes visited */
+    private final AtomicLong nodes = new AtomicLong();
+
+    /** The number of tasks the search was split into */
+    private final AtomicInteger tasks = new AtomicInteger();
+
+    /** Guards bestChoices */
+    private final Object lock = new Object();
+
+    /** The capacity chosen for each item in the best placement, or -1 if it is skipped */
+    private int[] bestChoices;
+
+    /** The time the search started, from System.nanoTime */
+    private long start;
+
+    /** The longest time to search in nanoseconds */
+    private long budgetNanos;
+
+    /** Set by cancel and never cleared */
+    private volatile boolean cancelled;
+
+    /** Set when the current search should stop */
+    private volatile boolean stopped;
+
+    /** Set when the current search ran out of time */
+    private volatile boolean timedOut;
+
+    /** True if the last search proved its placement best */
+    private volatile boolean optimal;
+
+    /**
+     * Constructs an optimizer for the current sessions and unassigned items of
+     * a conference. The conference is read once here and is not changed until
+     * the resulting schedule is applied.
+     *
+     * @param conference the conference to optimize
+     * @throws IllegalArgumentException if the conference is null
+     */
+    public SessionOptimizer(Conference conference) {
+        problem = new PackingProblem(conference);
+        order = problem.byDecreasingDuration();
+        int n = order.length;
+        durations = new int[n];
+        suffixMinutes = new long[n + 1];
+        for (int k = n - 1; k >= 0; k--) {
+            durations[k] = problem.getDuration(order[k]);
+            suffixMinutes[k] = suffixMinutes[k + 1] + durations[k];
+        }
+
+        int[] capacities = problem.getCapacities();
+        int max = 0;
+        int total = 0;
+        for (int c : capacities) {
+            max = Math.max(max, c);
+            total += c;
+        }
+        maxCapacity = max;
+        initialCapacity = total;
+        initialCounts = new int[max + 1];
+        for (int c : capacities) {
+            initialCounts[c]++;
+        }
+        upperBound = Math.min(suffixMinutes[0], total);
+    }
+
+    /**
+     * Searches for the best placement until it is proven best, the time budget
+     * runs out, or cancel is called, and returns it as a schedule. Apply the
+     * schedule to write the placement back to the conference.
+     *
+     * @param timeBudgetMillis the longest time to search in milliseconds
+     * @return the best placement found
+     * @throws IllegalArgumentException if the time budget is not positive
+     */
+    public Schedule optimize(long timeBudgetMillis) {
+        return optimize(timeBudgetMillis, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Searches for the best placement on the given pool. A budget too long to
+     * count in nanoseconds is treated as unlimited.
+     *
+     * @param timeBudgetMillis the longest time to search in milliseconds
+     * @param pool the pool to search on
+     * @return the best placement found
+     * @throws IllegalArgumentException if the time budget is not positive
+     */
+    Schedule optimize(long timeBudgetMillis, ForkJoinPool pool) {
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Invalid time budget.");
+        }
+        start = System.nanoTime();
+        budgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        stopped = cancelled;
+        timedOut = false;
+        optimal = false;
+        nodes.set(0);
+        tasks.set(0);
+
+        int[] greedy = greedyChoices();
+        int greedyMinutes = 0;
+        for (int k = 0; k < greedy.length; k++) {
+            if (greedy[k] >= 0) {
+                greedyMinutes += durations[k];
+            }
+        }
+        synchronized (lock) {
+            bestChoices = greedy;
+        }
+        bestMinutes.set(greedyMinutes);
+
+        if (!stopped && greedyMinutes < upperBound) {
+            tasks.incrementAndGet();
+            pool.invoke(new SearchTask(0, initialCounts.clone(), 0, initialCapacity, new int[0],
+                    firstChoice(0, initialCounts, 0)));
+        }
+        optimal = bestMinutes.get() == upperBound || !timedOut && !cancelled;
+
+        int[] choices;
+        synchronized (lock) {
+            choices = bestChoices;
+        }
+        return problem.toSchedule(toSessions(choices));
+    }
+
+    /**
+     * Stops a running search, which then returns the best placement found so
+     * far, and makes any later search return its starting placement right
+     * away. May be called from any thread, before or during a search.
+     */
+    public void cancel() {
+        cancelled = true;
+        stopped = true;
+    }
+
+    /**
+     * Returns true if the last search finished, so its placement leaves the
+     * fewest unused minutes possible. Cancelling after a search has finished
+     * does not change the result.
+     *
+     * @return true if the placement is proven best, or false if no search has run
+     */
+    public boolean isOptimal() {
+        return optimal;
+    }
+
+    /**
+     * Returns the number of search nodes visited by the last search.
+     *
+     * @return the number of nodes
+     */
+    public long getNodeCount() {
+        return nodes.get();
+    }
+
+    /**
+     * Returns the number of tasks the last search was split into.
+     *
+     * @return the number of tasks, or 0 if the search did not run
+     */
+    int getTaskCount() {
+        return tasks.get();
+    }
+
+    /**
+     * Places each item, longest first, into the smallest remaining capacity
+     * that fits it. This is best fit decreasing.
+     *
+     * @return the capacity chosen for each item, or -1 if it fits nowhere
+     */
+    private int[] greedyChoices() {
+        int[] count = initialCounts.clone();
+        int[] choices = new int[durations.length];
+        for (int k = 0; k < durations.length; k++) {
+            int c = durations[k];
+            while (c <= maxCapacity && count[c] == 0) {
+                c++;
+            }
+            if (c > maxCapacity) {
+                choices[k] = -1;
+            } else {
+                choices[k] = c;
+                count[c]--;
+                count[c - durations[k]]++;
+            }
+        }
+        return choices;
+    }
+
+    /**
+     * Turns the capacity chosen for each item into the session of each item.
+     * Sessions with the same remaining capacity are used in session order.
+     *
+     * @param choices the capacity chosen for each item in search order, or -1
+     * @return the session of each unassigned item, or -1 if it is not placed
+     */
+    private int[] toSessions(int[] choices) {
+        List<ArrayDeque<Integer>> byCapacity = new ArrayList<ArrayDeque<Integer>>();
+        for (int c = 0; c <= maxCapacity; c++) {
+            byCapacity.add(new ArrayDeque<Integer>());
+        }
+        int[] capacities = problem.getCapacities();
+        for (int s = 0; s < capacities.length; s++) {
+            byCapacity.get(capacities[s]).addLast(s);
+        }
+        int[] sessionOf = new int[choices.length];
+        for (int k = 0; k < choices.length; k++) {
+            int c = choices[k];
+            if (c < 0) {
+                sessionOf[order[k]] = -1;
+            } else {
+                int s = byCapacity.get(c).pollFirst();
+                byCapacity.get(c - durations[k]).addLast(s);
+                sessionOf[order[k]] = s;
+            }
+        }
+        return sessionOf;
+    }
+
+    /**
+     * Returns the first choice for an item. An item longer than every
+     * remaining capacity has skipping it as its only choice.
+     *
+     * @param k the position of the item in search order
+     * @param count the number of sessions with each remaining capacity
+     * @param previous the choice made for the item before, or 0 if there is none
+     * @return the smallest capacity that fits the item, or maxCapacity + 1 to skip it
+     */
+    private int firstChoice(int k, int[] count, int previous) {
+        return nextChoice(k, Math.min(durations[k], maxCapacity + 1) - 1, count, previous);
+    }
+
+    /**
+     * Returns the next choice for an item after the given one. Choices are the
+     * capacities that fit the item from smallest to largest, then skipping it.
+     * An item is always skipped if the one before it has the same duration and
+     * was skipped, since trying it the other way round gives the same results.
+     *
+     * @param k the position of the item in search order
+     * @param after the previous choice, or one less than the shortest capacity to try
+     * @param count the number of sessions with each remaining capacity
+     * @param previous the choice made for the item before, or 0 if there is none
+     * @return the next capacity, maxCapacity + 1 to skip, or more if there are no more choices
+     */
+    private int nextChoice(int k, int after, int[] count, int previous) {
+        int skip = maxCapacity + 1;
+        if (after < skip && k > 0 && previous < 0 && durations[k - 1] == durations[k]) {
+            return skip;
+        }
+        for (int c = after + 1; c <= maxCapacity; c++) {
+            if (count[c] > 0) {
+                return c;
+            }
+        }
+        return after < skip ? skip : skip + 1;
+    }
+
+    /**
+     * Records a complete placement if it beats the best one found.
+     *
+     * @param minutes the minutes the placement uses
+     * @param choices the capacity chosen for each item, or -1
+     */
+    private void record(int minutes, int[] choices) {
+        if (minutes <= bestMinutes.get()) {
+            return;
+        }
+        synchronized (lock) {
+            if (minutes > bestMinutes.get()) {
+                bestChoices = choices.clone();
+                bestMinutes.set(minutes);
+            }
+        }
+        if (minutes == upperBound) {
+            stopped = true;
+        }
+    }
+
+    /**
+     * Counts nodes and checks the clock now and then.
+     *
+     * @param visited the nodes visited since the last call
+     */
+    private void tick(long visited) {
+        nodes.addAndGet(visited);
+        if (System.nanoTime() - start > budgetNanos) {
+            timedOut = true;
+            stopped = true;
+        }
+    }
+
+    /**
+     * Searches the subtree below a node from a given choice on: the first
+     * depth items have been decided, as given by the prefix, and the choices
+     * for the next item before the first one are searched elsewhere. The
+     * subtree is searched in a loop on the task's own thread, handing parts of
+     * it to new tasks when other threads run short of work.
+     */
+    private class SearchTask extends RecursiveAction {
+
+        /** Serial version for RecursiveAction */
+        private static final long serialVersionUID = 1L;
+
+        /** The number of items decided */
+        private final int depth;
+
+        /** The number of sessions with each remaining capacity */
+        private final int[] count;
+
+        /** The minutes placed so far */
+        private final int placed;
+
+        /** The remaining capacity of all sessions */
+        private final int capacity;
+
+        /** The choices made for the decided items */
+        private final int[] prefix;
+
+        /** The first choice to try for the next item */
+        private final int first;
+
+        /** The tasks this task handed work to */
+        private final List<SearchTask> handedOff = new ArrayList<SearchTask>();
+
+        /**
+         * Constructs a task for a node.
+         *
+         * @param depth the number of items decided
+         * @param count the number of sessions with each remaining capacity, owned by the task
+         * @param placed the minutes placed so far
+         * @param capacity the remaining capacity of all sessions
+         * @param prefix the choices made for the decided items
+         * @param first the first choice to try for the next item
+         */
+        SearchTask(int depth, int[] count, int placed, int capacity, int[] prefix, int first) {
+            this.depth = depth;
+            this.count = count;
+            this.placed = placed;
+            this.capacity = capacity;
+            this.prefix = prefix;
+            this.first = first;
+        }
+
+        /**
+         * Searches the node unless it cannot beat the best placement, then
+         * waits for the tasks it handed work to.
+         */
+        @Override
+        protected void compute() {
+            if (stopped || placed + Math.min(suffixMinutes[depth], capacity) <= bestMinutes.get()) {
+                return;
+            }
+            search();
+            for (SearchTask task : handedOff) {
+                task.join();
+            }
+        }
+
+        /**
+         * Searches the subtree depth first with an explicit stack, so deep
+         * trees do not overflow the thread's stack.
+         */
+        private void search() {
+            int n = durations.length;
+            int skip = maxCapacity + 1;
+            int[] choices = Arrays.copyOf(prefix, n);
+            int[] next = new int[n];
+            int minutes = placed;
+            int room = capacity;
+            long visited = 0;
+
+            int d = depth;
+            next[d] = first;
+            while (d >= depth) {
+                if (++visited == CHECK_INTERVAL) {
+                    tick(visited);
+                    visited = 0;
+                    if (getSurplusQueuedTaskCount() < SURPLUS_TASKS) {
+                        handOff(d, choices, next, minutes, room);
+                    }
+                }
+                if (stopped) {
+                    break;
+                }
+                int c = next[d];
+                if (c > skip) {
+                    // no more choices here, so undo the choice one level up
+                    d--;
+                    if (d >= depth && choices[d] >= 0) {
+                        count[choices[d]]++;
+                        count[choices[d] - durations[d]]--;
+                        minutes -= durations[d];
+                        room += durations[d];
+                    }
+                    continue;
+                }
+
+                int previous = d == 0 ? 0 : choices[d - 1];
+                next[d] = nextChoice(d, c, count, previous);
+                if (c == skip) {
+                    choices[d] = -1;
+                } else {
+                    choices[d] = c;
+                    count[c]--;
+                    count[c - durations[d]]++;
+                    minutes += durations[d];
+                    room -= durations[d];
+                }
+
+                d++;
+                if (d == n || minutes + Math.min(suffixMinutes[d], room) <= bestMinutes.get()) {
+                    if (d == n) {
+                        record(minutes, choices);
+                    }
+                    // undo the choice just made and try the next one
+                    d--;
+                    if (choices[d] >= 0) {
+                        count[choices[d]]++;
+                        count[choices[d] - durations[d]]--;
+                        minutes -= durations[d];
+                        room += durations[d];
+                    }
+                    continue;
+                }
+                next[d] = firstChoice(d, count, choices[d - 1]);
+            }
+            tick(visited);
+        }
+
+        /**
+         * Hands the untried choices of the shallowest node on the search path
+         * that has some, and enough undecided items left, to a new forked
+         * task. The node's state is rebuilt by undoing the choices made below
+         * it, and this task then treats the node as having no more choices.
+         *
+         * @param d the level being searched
+         * @param choices the choice made at each level above d
+         * @param next the next choice to try at each level up to d
+         * @param minutes the minutes placed at level d
+         * @param room the remaining capacity at level d
+         */
+        private void handOff(int d, int[] choices, int[] next, int minutes, int room) {
+            int skip = maxCapacity + 1;
+            int level = depth;
+            while (level <= d && next[level] > skip) {
+                level++;
+            }
+            if (level > d || durations.length - level < MIN_SPLIT_ITEMS) {
+                return;
+            }
+            int[] levelCount = count.clone();
+            int levelMinutes = minutes;
+            int levelRoom = room;
+            for (int j = level; j < d; j++) {
+                if (choices[j] >= 0) {
+                    levelCount[choices[j]]++;
+                    levelCount[choices[j] - durations[j]]--;
+                    levelMinutes -= durations[j];
+                    levelRoom += durations[j];
+                }
+            }
+            SearchTask task = new SearchTask(level, levelCount, levelMinutes, levelRoom,
+                    Arrays.copyOf(choices, level), next[level]);
+            next[level] = skip + 1;
+            tasks.incrementAndGet();
+            handedOff.add(task);
+            task.fork();
+        }
+    }
+}
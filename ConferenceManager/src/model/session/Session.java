@@ -27,6 +27,18 @@ public class Session implements Comparable<Session> {
     /** The list of accepted items in this session */
     private ISwapList<AcceptedItem> itemList;
 
+    /** The total duration of the items in this session, kept as items are added and removed */
+    private int usedDuration;
+
+    /**
+     * The time slot the session runs in, or -1 if it has none. Sessions in
+     * the same slot run at the same time. Slots are not saved to the file.
+     */
+    private int timeSlot = -1;
+
+    /** Told when the remaining capacity of this session changes, or null */
+    private CapacityListener capacityListener;
+
     /**
      * Constructs a Session with the given name and duration.
      * 
@@ -79,6 +91,41 @@ public class Session implements Comparable<Session> {
             throw new IllegalArgumentException("Invalid session.");
         }
         this.duration = duration;
+        capacityChanged();
+    }
+
+    /**
+     * Sets the listener told when the remaining capacity of this session
+     * changes. A session has at most one such listener; setting a new one
+     * replaces the old.
+     * 
+     * @param listener the listener, or null to remove the current one
+     */
+    public void setCapacityListener(CapacityListener listener) {
+        capacityListener = listener;
+    }
+
+    /**
+     * Returns the time slot of the session.
+     * 
+     * @return the time slot, or -1 if the session has none
+     */
+    public int getTimeSlot() {
+        return timeSlot;
+    }
+
+    /**
+     * Sets the time slot of the session. Sessions in the same slot run at the
+     * same time. For a session in a conference, use
+     * Conference.setSessionTimeSlot so the conference records the change.
+     * 
+     * @param timeSlot the time slot, or -1 to remove it
+     */
+    public void setTimeSlot(int timeSlot) {
+        if (timeSlot < -1) {
+            throw new IllegalArgumentException("Invalid session.");
+        }
+        this.timeSlot = timeSlot;
     }
 
     /**
@@ -101,10 +148,12 @@ public class Session implements Comparable<Session> {
         }
         try {
             item.addSession(this);
-            itemList.add(item); 
+            itemList.add(item);
+            usedDuration += item.getDuration();
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Cannot add item.");
         }
+        capacityChanged();
     }
 
     /**
@@ -115,7 +164,30 @@ public class Session implements Comparable<Session> {
     public void removeAcceptedItem(int idx) {
     	AcceptedItem item = itemList.get(idx);
         itemList.remove(idx);
+        usedDuration -= item.getDuration();
         item.removeSession();
+        capacityChanged();
+    }
+
+    /**
+     * Updates the used time of the session when the duration of one of its
+     * items changes. AcceptedItem.setDuration calls this for the item's session.
+     * 
+     * @param oldDuration the previous duration of the item in minutes
+     * @param newDuration the new duration of the item in minutes
+     */
+    public void updateItemDuration(int oldDuration, int newDuration) {
+        usedDuration += newDuration - oldDuration;
+        capacityChanged();
+    }
+
+    /**
+     * Returns the total duration of the items in the session.
+     * 
+     * @return the used duration in minutes
+     */
+    public int getUsedCapacity() {
+        return usedDuration;
     }
 
     /**
@@ -124,11 +196,16 @@ public class Session implements Comparable<Session> {
      * @return the remaining duration in minutes
      */
     public int getRemainingCapacity() {
-    	int used = 0;
-        for (int i = 0; i < itemList.size(); i++) {
-            used += itemList.get(i).getDuration();
+        return duration - usedDuration;
+    }
+
+    /**
+     * Tells the capacity listener, if any, that the remaining capacity changed.
+     */
+    private void capacityChanged() {
+        if (capacityListener != null) {
+            capacityListener.capacityChanged(this);
         }
-        return duration - used;
     }
 
     /**
@@ -155,4 +232,18 @@ public class Session implements Comparable<Session> {
         }
         return result;
     }
+
+    /**
+     * Listens for changes to the remaining capacity of a session, so that an
+     * index of sessions by capacity can be kept up to date.
+     */
+    public interface CapacityListener {
+
+        /**
+         * Called after the remaining capacity of the session may have changed.
+         * 
+         * @param session the session that changed
+         */
+        void capacityChanged(Session session);
+    }
 }
@@ -0,0 +1,307 @@
+package edu.ncsu.csc216.wolf_proceedings.model.util;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The ArraySortedList class provides an array-based implementation of the
+ * ISortedList interface. Elements are kept in ascending order in a contiguous
+ * array, so positional access is constant time and searches use binary search.
+ *
+ * @author Vamsi Gaddipati
+ * @param <E> the type of elements stored in this list; must implement Comparable
+ */
+public class ArraySortedList<E extends Comparable<E>> implements ISortedList<E> {
+
+    /** Initial capacity of the array */
+    private static final int INITIAL_CAPACITY = 10;
+
+    /** Array to store the elements of the list */
+    private E[] list;
+
+    /** The number of elements currently in the list. */
+    private int size;
+
+    /** The number of structural modifications made to the list. */
+    private int modCount;
+
+    /**
+     * Constructs an empty ArraySortedList object.
+     */
+    @SuppressWarnings("unchecked")
+    public ArraySortedList() {
+        list = (E[]) new Comparable<?>[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Adds the specified element to the list in sorted order. The element is
+     * placed before any elements that compare as equal to it, matching the
+     * ordering used by SortedList.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the specified element is null
+     * @throws IllegalArgumentException if the element already exists in the list
+     */
+    @Override
+    public void add(E element) {
+        if (element == null) {
+            throw new NullPointerException("Cannot add null element.");
+        }
+
+        int idx = lowerBound(element);
+        if (findFrom(idx, element) != -1) {
+            throw new IllegalArgumentException("Cannot add duplicate element.");
+        }
+
+        checkCapacity(size + 1);
+        System.arraycopy(list, idx, list, idx + 1, size - idx);
+        list[idx] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds all of the elements to the list in sorted order. The elements are
+     * sorted once and merged with the list in a single pass. If any element
+     * cannot be added, the list is left unchanged.
+     *
+     * @param elements the elements to add
+     * @throws NullPointerException if any element is null
+     * @throws IllegalArgumentException if any element already exists in the list
+     *         or is given more than once
+     */
+    @Override
+    public void addAll(Collection<? extends E> elements) {
+        E[] merged = SortedArrays.merge(this, size, elements);
+        list = merged;
+        size = merged.length;
+        modCount++;
+    }
+
+    /**
+     * Ensures that the internal array has enough capacity to hold the specified size.
+     * If the array is too small, it is resized to a larger capacity.
+     *
+     * @param newSize the required minimum capacity
+     */
+    @SuppressWarnings("unchecked")
+    private void checkCapacity(int newSize) {
+        if (newSize > list.length) {
+            int newCapacity = Math.max(list.length * 2, newSize);
+            E[] newList = (E[]) new Comparable<?>[newCapacity];
+            System.arraycopy(list, 0, newList, 0, size);
+            list = newList;
+        }
+    }
+
+    /**
+     * Removes and returns the element at the specified index in the list.
+     *
+     * @param idx the index of the element to remove
+     * @return the element previously at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E remove(int idx) {
+        checkIndex(idx);
+        E removed = list[idx];
+        System.arraycopy(list, idx + 1, list, idx, size - idx - 1);
+        list[size - 1] = null;
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Checks whether the given index is within the valid range of the list.
+     *
+     * @param idx the index to check
+     * @throws IndexOutOfBoundsException if the index is less than 0 or
+     *         greater than or equal to the size of the list
+     */
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+    }
+
+    /**
+     * Returns true if the list contains the specified element.
+     *
+     * @param element the element to check for
+     * @return true if this list contains the element; false otherwise
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param idx the index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E get(int idx) {
+        checkIndex(idx);
+        return list[idx];
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * @param element the element to search for
+     * @return the index of the specified element, or -1 if not found
+     */
+    @Override
+    public int indexOf(E element) {
+        if (element == null) {
+            return -1;
+        }
+        return findFrom(lowerBound(element), element);
+    }
+
+    /**
+     * Returns the index of the first element that is not less than the given
+     * element, or size if every element is less than it.
+     *
+     * @param element the element to search for
+     * @return the first index whose element compares greater than or equal
+     */
+    private int lowerBound(E element) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (element.compareTo(list[mid]) > 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Scans the run of elements that compare as equal to the given element,
+     * starting at idx, for one that is equal to it.
+     *
+     * @param idx the index at which the run of equal elements starts
+     * @param element the element to search for
+     * @return the index of the matching element, or -1 if not found
+     */
+    private int findFrom(int idx, E element) {
+        for (int i = idx; i < size && element.compareTo(list[i]) == 0; i++) {
+            if (list[i].equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in sorted order.
+     * The iterator fails fast if the list is modified while iterating.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ArraySortedListIterator(0);
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in sorted order,
+     * starting at the given index in constant time.
+     *
+     * @param idx the index of the first element to return
+     * @return an iterator over the elements from the given index on
+     * @throws IndexOutOfBoundsException if the index is less than 0 or
+     *         greater than the size of the list
+     */
+    @Override
+    public Iterator<E> iterator(int idx) {
+        if (idx < 0 || idx > size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        return new ArraySortedListIterator(idx);
+    }
+
+    /**
+     * Iterator implementation for ArraySortedList.
+     * Iterates over elements in the list in sorted order.
+     */
+    private class ArraySortedListIterator implements Iterator<E> {
+
+        /** Index of the next element to return */
+        private int current;
+
+        /** The modification count the list is expected to have */
+        private int expectedModCount;
+
+        /**
+         * Constructs a new ArraySortedListIterator starting at the given index.
+         *
+         * @param start the index of the first element to return
+         */
+        public ArraySortedListIterator(int start) {
+            current = start;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return true if there are more elements to iterate over
+         */
+        @Override
+        public boolean hasNext() {
+            return current < size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element
+         * @throws NoSuchElementException if no more elements exist
+         * @throws ConcurrentModificationException if the list was modified
+         *         after the iterator was created
+         */
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return list[current++];
+        }
+
+        /**
+         * Removing elements through the iterator is not supported.
+         *
+         * @throws UnsupportedOperationException always
+         */
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Remove not supported.");
+        }
+    }
+}
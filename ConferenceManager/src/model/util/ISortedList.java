@@ -1,15 +1,21 @@
 package edu.ncsu.csc216.wolf_proceedings.model.util;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
 /**
  * Interface for a list that keeps objects in sorted order as defined by the
- * Comparable interface.
+ * Comparable interface. Iterating over the list visits the elements in sorted
+ * order, and iterators fail fast if the list is changed during iteration.
  * 
  * @author Dr. Sarah Heckman
  * @author Dr. Sterling McLeod 
  * 
  * @param <E> type for ISortedList; must implement Comparable
  */
-public interface ISortedList<E extends Comparable<E>> {
+public interface ISortedList<E extends Comparable<E>> extends Iterable<E> {
 	
 	/**
 	 * Adds the element to the list in sorted order.
@@ -19,6 +25,20 @@ public interface ISortedList<E extends Comparable<E>> {
 	 */
 	void add(E element);
 		
+	/**
+	 * Adds all of the elements to the list in sorted order. The result is the
+	 * same as adding each element in turn, but implementations may sort the
+	 * elements once and merge them into the list.
+	 * @param elements elements to add
+	 * @throws NullPointerException if any element is null
+	 * @throws IllegalArgumentException if any element cannot be added 
+	 */
+	default void addAll(Collection<? extends E> elements) {
+		for (E element : elements) {
+			add(element);
+		}
+	}
+	
 	/**
 	 * Returns the element from the given index.  The element is
 	 * removed from the list.
@@ -57,5 +77,39 @@ public interface ISortedList<E extends Comparable<E>> {
 	 * @return the index of the item or -1 if not found.
 	 */
 	int indexOf(E element);
+	
+	/**
+	 * Returns an iterator over the elements in sorted order that starts at
+	 * the given index, so a page of the list can be read without visiting
+	 * the elements before it. By default the elements before the index are
+	 * skipped one at a time; indexable implementations start in O(log n) or
+	 * better.
+	 * @param idx index of the first element to return; may equal the size
+	 * 		of the list, in which case the iterator is empty
+	 * @return an iterator over the elements from the given index on
+	 * @throws IndexOutOfBoundsException if the idx is less than 0 or greater
+	 * 		than the size of the list
+	 */
+	default Iterator<E> iterator(int idx) {
+		if (idx < 0 || idx > size()) {
+			throw new IndexOutOfBoundsException("Invalid index.");
+		}
+		Iterator<E> it = iterator();
+		for (int i = 0; i < idx; i++) {
+			it.next();
+		}
+		return it;
+	}
+	
+	/**
+	 * Returns a spliterator over the elements in sorted order that knows the
+	 * size of the list.
+	 * @return a sized, ordered spliterator over the list
+	 */
+	@Override
+	default Spliterator<E> spliterator() {
+		return Spliterators.spliterator(iterator(), size(),
+				Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL);
+	}
 
 }
\ No newline at end of file
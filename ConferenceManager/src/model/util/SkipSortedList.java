@@ -0,0 +1,394 @@
+package edu.ncsu.csc216.wolf_proceedings.model.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * The SkipSortedList class provides an indexable skip list implementation of
+ * the ISortedList interface. Every link records its width, the number of
+ * elements it skips over, so positional operations as well as searches take
+ * expected O(log n) time. This suits workloads that mix many inserts and
+ * removes with reads by index.
+ *
+ * @author Vamsi Gaddipati
+ * @param <E> the type of elements stored in this list; must implement Comparable
+ */
+public class SkipSortedList<E extends Comparable<E>> implements ISortedList<E> {
+
+    /** The maximum number of levels a node may have */
+    private static final int MAX_LEVEL = 32;
+
+    /** The number of elements currently in the list. */
+    private int size;
+
+    /** The number of levels currently in use */
+    private int level;
+
+    /** The sentinel node that precedes the first element at every level */
+    private SkipNode head;
+
+    /** Random number generator used to pick node levels */
+    private Random random;
+
+    /** The number of structural modifications made to the list. */
+    private int modCount;
+
+    /**
+     * Constructs an empty SkipSortedList object.
+     */
+    public SkipSortedList() {
+        size = 0;
+        level = 1;
+        head = new SkipNode(null, MAX_LEVEL);
+        head.width[0] = 1;
+        random = new Random();
+    }
+
+    /**
+     * Adds the specified element to the list in sorted order. The element is
+     * placed before any elements that compare as equal to it, matching the
+     * ordering used by SortedList.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the specified element is null
+     * @throws IllegalArgumentException if the element already exists in the list
+     */
+    @Override
+    public void add(E element) {
+        if (element == null) {
+            throw new NullPointerException("Cannot add null element.");
+        }
+
+        SkipNode[] update = newNodeArray(MAX_LEVEL);
+        int[] rank = new int[MAX_LEVEL];
+        SkipNode current = head;
+        int pos = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.next[i] != null && element.compareTo(current.next[i].data) > 0) {
+                pos += current.width[i];
+                current = current.next[i];
+            }
+            update[i] = current;
+            rank[i] = pos;
+        }
+
+        if (findFrom(current.next[0], element) != -1) {
+            throw new IllegalArgumentException("Cannot add duplicate element.");
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                update[i] = head;
+                rank[i] = 0;
+                head.width[i] = size + 1;
+            }
+            level = nodeLevel;
+        }
+
+        SkipNode node = new SkipNode(element, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.width[i] = update[i].width[i] - (rank[0] - rank[i]);
+            update[i].width[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].width[i]++;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes and returns the element at the specified index in the list.
+     *
+     * @param idx the index of the element to remove
+     * @return the element previously at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E remove(int idx) {
+        checkIndex(idx);
+        int target = idx + 1;
+
+        SkipNode[] update = newNodeArray(MAX_LEVEL);
+        SkipNode current = head;
+        int pos = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.next[i] != null && pos + current.width[i] < target) {
+                pos += current.width[i];
+                current = current.next[i];
+            }
+            update[i] = current;
+        }
+
+        SkipNode removed = current.next[0];
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == removed) {
+                update[i].width[i] += removed.width[i] - 1;
+                update[i].next[i] = removed.next[i];
+            } else {
+                update[i].width[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        modCount++;
+        return removed.data;
+    }
+
+    /**
+     * Checks whether the given index is within the valid range of the list.
+     *
+     * @param idx the index to check
+     * @throws IndexOutOfBoundsException if the index is less than 0 or
+     *         greater than or equal to the size of the list
+     */
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+    }
+
+    /**
+     * Returns true if the list contains the specified element.
+     *
+     * @param element the element to check for
+     * @return true if this list contains the element; false otherwise
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param idx the index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E get(int idx) {
+        checkIndex(idx);
+        return nodeBefore(idx).next[0].data;
+    }
+
+    /**
+     * Returns the node just before the given position, which is the head for
+     * position 0, by following the widest links that do not pass it.
+     *
+     * @param idx an index from 0 to the size of the list
+     * @return the node holding the element at idx - 1, or the head
+     */
+    private SkipNode nodeBefore(int idx) {
+        SkipNode current = head;
+        int pos = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.next[i] != null && pos + current.width[i] <= idx) {
+                pos += current.width[i];
+                current = current.next[i];
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * @param element the element to search for
+     * @return the index of the specified element, or -1 if not found
+     */
+    @Override
+    public int indexOf(E element) {
+        if (element == null) {
+            return -1;
+        }
+        SkipNode current = head;
+        int pos = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (current.next[i] != null && element.compareTo(current.next[i].data) > 0) {
+                pos += current.width[i];
+                current = current.next[i];
+            }
+        }
+        int offset = findFrom(current.next[0], element);
+        return offset == -1 ? -1 : pos + offset;
+    }
+
+    /**
+     * Scans the run of nodes that compare as equal to the given element,
+     * starting at the given node, for one whose data is equal to it.
+     *
+     * @param node the first node of the run of equal elements
+     * @param element the element to search for
+     * @return the number of nodes before the match in the run, or -1 if not found
+     */
+    private int findFrom(SkipNode node, E element) {
+        int offset = 0;
+        while (node != null && element.compareTo(node.data) == 0) {
+            if (node.data.equals(element)) {
+                return offset;
+            }
+            node = node.next[0];
+            offset++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a random level for a new node, where each additional level is
+     * chosen with probability one half.
+     *
+     * @return a level between 1 and MAX_LEVEL
+     */
+    private int randomLevel() {
+        return 1 + Integer.numberOfTrailingZeros(random.nextInt() | (1 << (MAX_LEVEL - 1)));
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in sorted order.
+     * The iterator fails fast if the list is modified while iterating.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SkipSortedListIterator(head.next[0]);
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in sorted order,
+     * starting at the given index. The first node is found by following the
+     * skip links, in O(log n) expected time.
+     *
+     * @param idx the index of the first element to return
+     * @return an iterator over the elements from the given index on
+     * @throws IndexOutOfBoundsException if the index is less than 0 or
+     *         greater than the size of the list
+     */
+    @Override
+    public Iterator<E> iterator(int idx) {
+        if (idx < 0 || idx > size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        return new SkipSortedListIterator(nodeBefore(idx).next[0]);
+    }
+
+    /**
+     * Iterator implementation for SkipSortedList.
+     * Iterates over elements in the list in sorted order.
+     */
+    private class SkipSortedListIterator implements Iterator<E> {
+
+        /** The node holding the next element to return */
+        private SkipNode current;
+
+        /** The modification count the list is expected to have */
+        private int expectedModCount;
+
+        /**
+         * Constructs a new SkipSortedListIterator starting at the given node.
+         *
+         * @param start the node holding the first element to return, or null
+         */
+        public SkipSortedListIterator(SkipNode start) {
+            current = start;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return true if there are more elements to iterate over
+         */
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element
+         * @throws NoSuchElementException if no more elements exist
+         * @throws ConcurrentModificationException if the list was modified
+         *         after the iterator was created
+         */
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E data = current.data;
+            current = current.next[0];
+            return data;
+        }
+
+        /**
+         * Removing elements through the iterator is not supported.
+         *
+         * @throws UnsupportedOperationException always
+         */
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Remove not supported.");
+        }
+    }
+
+    /**
+     * Creates an array of nodes. Arrays of an inner class of a generic class
+     * cannot be created directly, so the array is created for any element
+     * type and cast.
+     *
+     * @param length the length of the array
+     * @return a new array of nodes
+     */
+    @SuppressWarnings("unchecked")
+    private SkipNode[] newNodeArray(int length) {
+        return (SkipNode[]) new SkipSortedList<?>.SkipNode[length];
+    }
+
+    /**
+     * Private inner class representing a single node in the skip list.
+     */
+    private class SkipNode {
+        /** The data stored in this node. */
+        private E data;
+        /** References to the next node at each level. */
+        private SkipNode[] next;
+        /** The number of elements each link skips over, including its target. */
+        private int[] width;
+
+        /**
+         * Constructs a SkipNode with the given data and number of levels.
+         *
+         * @param data the data element stored in this node
+         * @param nodeLevel the number of levels the node participates in
+         */
+        public SkipNode(E data, int nodeLevel) {
+            this.data = data;
+            this.next = newNodeArray(nodeLevel);
+            this.width = new int[nodeLevel];
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package edu.ncsu.csc216.wolf_proceedings.model.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Helper used by the ISortedList implementations to add many elements at once
+ * by sorting them and merging them with the elements already in a list.
+ *
+ * @author Vamsi Gaddipati
+ */
+final class SortedArrays {
+
+    /**
+     * Prevents construction of the helper class.
+     */
+    private SortedArrays() {
+    }
+
+    /**
+     * Returns the elements of an existing sorted list merged with the added
+     * elements, in the order that adding each element in turn would produce.
+     * An added element is placed before any elements that compare as equal to
+     * it, including elements added earlier in the collection.
+     *
+     * @param <E> the type of elements in the list
+     * @param existing the elements already in the list, in sorted order
+     * @param existingSize the number of elements already in the list
+     * @param added the elements to add
+     * @return a new array holding all of the elements in sorted order
+     * @throws NullPointerException if any added element is null
+     * @throws IllegalArgumentException if an element would be in the result twice
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Comparable<E>> E[] merge(Iterable<E> existing, int existingSize,
+            Collection<? extends E> added) {
+        E[] sorted = (E[]) new Comparable<?>[added.size()];
+        int next = sorted.length;
+        for (E element : added) {
+            if (element == null) {
+                throw new NullPointerException("Cannot add null element.");
+            }
+            sorted[--next] = element;
+        }
+        // The sort is stable, so filling the array back to front leaves later
+        // elements ahead of earlier ones that compare as equal
+        Arrays.sort(sorted);
+
+        E[] merged = (E[]) new Comparable<?>[existingSize + sorted.length];
+        int j = 0;
+        int k = 0;
+        for (E element : existing) {
+            while (j < sorted.length && sorted[j].compareTo(element) <= 0) {
+                merged[k++] = sorted[j++];
+            }
+            merged[k++] = element;
+        }
+        while (j < sorted.length) {
+            merged[k++] = sorted[j++];
+        }
+
+        for (int i = 1; i < merged.length; i++) {
+            for (int m = i - 1; m >= 0 && merged[i].compareTo(merged[m]) == 0; m--) {
+                if (merged[i].equals(merged[m])) {
+                    throw new IllegalArgumentException("Cannot add duplicate element.");
+                }
+            }
+        }
+        return merged;
+    }
+}
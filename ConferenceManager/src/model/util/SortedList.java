@@ -1,9 +1,17 @@
 package edu.ncsu.csc216.wolf_proceedings.model.util;
 
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 /**
  * The SortedList class provides an implementation of the
  * ISortedList interface that maintains elements in sorted order.
  * Elements are stored in ascending order according to their natural ordering.
+ * The list remembers the node found by the last call to get, so reading rows
+ * in increasing order, as a table does when it draws the visible rows, walks
+ * the list once instead of from the front for each row.
  *
  * @author Vamsi Gaddipati
  * @param <E> the type of elements stored in this list; must implement Comparable
@@ -16,6 +24,12 @@ public class SortedList<E extends Comparable<E>> implements ISortedList<E> {
     /** The first node of the linked list. */
     private ListNode front;
 
+    /** The number of structural modifications made to the list. */
+    private int modCount;
+
+    /** Where the last call to get ended, or null if get has not been called. */
+    private Cursor cursor;
+
     /**
      * Constructs an empty SortedList object.
      */
@@ -25,7 +39,8 @@ public class SortedList<E extends Comparable<E>> implements ISortedList<E> {
     }
 
     /**
-     * Adds the specified element to the list in sorted order.
+     * Adds the specified element to the list in sorted order. The element is
+     * placed before any elements that compare as equal to it.
      *
      * @param element the element to add
      * @throws NullPointerException if the specified element is null
@@ -41,7 +56,7 @@ public class SortedList<E extends Comparable<E>> implements ISortedList<E> {
             throw new IllegalArgumentException("Cannot add duplicate element.");
         }
         
-        if (front == null || element.compareTo(front.data) < 0) {
+        if (front == null || element.compareTo(front.data) <= 0) {
             front = new ListNode(element, front);
         } else {
             ListNode current = front;
@@ -51,6 +66,29 @@ public class SortedList<E extends Comparable<E>> implements ISortedList<E> {
             current.next = new ListNode(element, current.next);
         }
         size++;
+        modCount++;
+    }
+
+    /**
+     * Adds all of the elements to the list in sorted order. The elements are
+     * sorted once and merged with the list in a single pass. If any element
+     * cannot be added, the list is left unchanged.
+     *
+     * @param elements the elements to add
+     * @throws NullPointerException if any element is null
+     * @throws IllegalArgumentException if any element already exists in the list
+     *         or is given more than once
+     */
+    @Override
+    public void addAll(Collection<? extends E> elements) {
+        E[] merged = SortedArrays.merge(this, size, elements);
+        ListNode newFront = null;
+        for (int i = merged.length - 1; i >= 0; i--) {
+            newFront = new ListNode(merged[i], newFront);
+        }
+        front = newFront;
+        size = merged.length;
+        modCount++;
     }
 
     /**
@@ -77,6 +115,7 @@ public class SortedList<E extends Comparable<E>> implements ISortedList<E> {
             current.next = current.next.next;
         }
         size--;
+        modCount++;
         return removedData;
     }
     
@@ -124,11 +163,29 @@ public class SortedList<E extends Comparable<E>> implements ISortedList<E> {
     @Override
     public E get(int idx) {
         checkIndex(idx);
+        return nodeAt(idx).data;
+    }
+
+    /**
+     * Returns the node at the given index, starting from the node found by
+     * the last call if it is still valid and not past the index.
+     *
+     * @param idx a valid index into the list
+     * @return the node holding the element at that index
+     */
+    private ListNode nodeAt(int idx) {
         ListNode current = front;
-        for (int i = 0; i < idx; i++) {
+        int i = 0;
+        Cursor last = cursor;
+        if (last != null && last.modCount == modCount && last.index <= idx) {
+            current = last.node;
+            i = last.index;
+        }
+        for (; i < idx; i++) {
             current = current.next;
         }
-        return current.data;
+        cursor = new Cursor(current, idx, modCount);
+        return current;
     }
 
     /**
@@ -165,6 +222,127 @@ public class SortedList<E extends Comparable<E>> implements ISortedList<E> {
         return -1;
     }
     
+    /**
+     * Returns an iterator over the elements in this list in sorted order.
+     * The iterator fails fast if the list is modified while iterating.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SortedListIterator(front);
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in sorted order,
+     * starting at the given index. Finding the first node walks the list,
+     * but continues from the last node found by get or by this method, so
+     * reading a list page by page walks it only once.
+     *
+     * @param idx the index of the first element to return
+     * @return an iterator over the elements from the given index on
+     * @throws IndexOutOfBoundsException if the index is less than 0 or
+     *         greater than the size of the list
+     */
+    @Override
+    public Iterator<E> iterator(int idx) {
+        if (idx < 0 || idx > size) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        return new SortedListIterator(idx == size ? null : nodeAt(idx));
+    }
+
+    /**
+     * Iterator implementation for SortedList.
+     * Iterates over elements in the list in sorted order.
+     */
+    private class SortedListIterator implements Iterator<E> {
+
+        /** The node holding the next element to return */
+        private ListNode current;
+
+        /** The modification count the list is expected to have */
+        private int expectedModCount;
+
+        /**
+         * Constructs a new SortedListIterator starting at the given node.
+         *
+         * @param start the node holding the first element to return, or null
+         */
+        public SortedListIterator(ListNode start) {
+            current = start;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return true if there are more elements to iterate over
+         */
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element
+         * @throws NoSuchElementException if no more elements exist
+         * @throws ConcurrentModificationException if the list was modified
+         *         after the iterator was created
+         */
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E data = current.data;
+            current = current.next;
+            return data;
+        }
+
+        /**
+         * Removing elements through the iterator is not supported.
+         *
+         * @throws UnsupportedOperationException always
+         */
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Remove not supported.");
+        }
+    }
+
+    /**
+     * A node found by get and its index. The cursor is only used while the
+     * list has not been changed since it was made. Its fields are final, so
+     * a cursor read by another thread is never half written.
+     */
+    private class Cursor {
+        /** The node that was found. */
+        private final ListNode node;
+        /** The index of the node. */
+        private final int index;
+        /** The modCount of the list when the node was found. */
+        private final int modCount;
+
+        /**
+         * Constructs a Cursor for the given node.
+         *
+         * @param node the node that was found
+         * @param index the index of the node
+         * @param modCount the modCount of the list
+         */
+        Cursor(ListNode node, int index, int modCount) {
+            this.node = node;
+            this.index = index;
+            this.modCount = modCount;
+        }
+    }
+
     /**
      * Private inner class representing a single node in the linked list.
      */
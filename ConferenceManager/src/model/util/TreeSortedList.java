@@ -0,0 +1,455 @@
+package edu.ncsu.csc216.wolf_proceedings.model.util;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The TreeSortedList class provides an implementation of the ISortedList
+ * interface backed by an AVL tree. Each node also records the size of its
+ * subtree, so elements can be found by position as well as by value. All
+ * operations take O(log n) time in the worst case.
+ *
+ * @author Vamsi Gaddipati
+ * @param <E> the type of elements stored in this list; must implement Comparable
+ */
+public class TreeSortedList<E extends Comparable<E>> implements ISortedList<E> {
+
+    /** The root node of the tree. */
+    private TreeNode root;
+
+    /** The number of structural modifications made to the list. */
+    private int modCount;
+
+    /**
+     * Constructs an empty TreeSortedList object.
+     */
+    public TreeSortedList() {
+        root = null;
+    }
+
+    /**
+     * Adds the specified element to the list in sorted order. The element is
+     * placed before any elements that compare as equal to it, matching the
+     * ordering used by SortedList.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the specified element is null
+     * @throws IllegalArgumentException if the element already exists in the list
+     */
+    @Override
+    public void add(E element) {
+        if (element == null) {
+            throw new NullPointerException("Cannot add null element.");
+        }
+        if (contains(element)) {
+            throw new IllegalArgumentException("Cannot add duplicate element.");
+        }
+        root = insert(root, element);
+        modCount++;
+    }
+
+    /**
+     * Inserts the element into the given subtree and rebalances it.
+     *
+     * @param node the root of the subtree
+     * @param element the element to insert
+     * @return the new root of the subtree
+     */
+    private TreeNode insert(TreeNode node, E element) {
+        if (node == null) {
+            return new TreeNode(element);
+        }
+        if (element.compareTo(node.data) > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            node.left = insert(node.left, element);
+        }
+        return balance(node);
+    }
+
+    /**
+     * Removes and returns the element at the specified index in the list.
+     *
+     * @param idx the index of the element to remove
+     * @return the element previously at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E remove(int idx) {
+        checkIndex(idx);
+        E removed = nodeAt(idx).data;
+        root = delete(root, idx);
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Deletes the node at the given position within the subtree and
+     * rebalances it.
+     *
+     * @param node the root of the subtree
+     * @param idx the position of the node to delete within the subtree
+     * @return the new root of the subtree
+     */
+    private TreeNode delete(TreeNode node, int idx) {
+        int leftSize = size(node.left);
+        if (idx < leftSize) {
+            node.left = delete(node.left, idx);
+        } else if (idx > leftSize) {
+            node.right = delete(node.right, idx - leftSize - 1);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            TreeNode successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.data = successor.data;
+            node.right = delete(node.right, 0);
+        }
+        return balance(node);
+    }
+
+    /**
+     * Checks whether the given index is within the valid range of the list.
+     *
+     * @param idx the index to check
+     * @throws IndexOutOfBoundsException if the index is less than 0 or
+     *         greater than or equal to the size of the list
+     */
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= size()) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+    }
+
+    /**
+     * Returns true if the list contains the specified element.
+     *
+     * @param element the element to check for
+     * @return true if this list contains the element; false otherwise
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param idx the index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E get(int idx) {
+        checkIndex(idx);
+        return nodeAt(idx).data;
+    }
+
+    /**
+     * Returns the node at the given position in the tree.
+     *
+     * @param idx a valid index into the list
+     * @return the node holding the element at that index
+     */
+    private TreeNode nodeAt(int idx) {
+        TreeNode current = root;
+        while (true) {
+            int leftSize = size(current.left);
+            if (idx < leftSize) {
+                current = current.left;
+            } else if (idx > leftSize) {
+                idx -= leftSize + 1;
+                current = current.right;
+            } else {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the index of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * @param element the element to search for
+     * @return the index of the specified element, or -1 if not found
+     */
+    @Override
+    public int indexOf(E element) {
+        if (element == null) {
+            return -1;
+        }
+        int rank = 0;
+        TreeNode current = root;
+        while (current != null) {
+            if (element.compareTo(current.data) > 0) {
+                rank += size(current.left) + 1;
+                current = current.right;
+            } else {
+                current = current.left;
+            }
+        }
+        for (int i = rank; i < size(); i++) {
+            E data = nodeAt(i).data;
+            if (element.compareTo(data) != 0) {
+                break;
+            }
+            if (data.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of nodes in the given subtree.
+     *
+     * @param node the root of the subtree, possibly null
+     * @return the number of nodes in the subtree
+     */
+    private int size(TreeNode node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Returns the height of the given subtree.
+     *
+     * @param node the root of the subtree, possibly null
+     * @return the height of the subtree, or 0 if it is empty
+     */
+    private int height(TreeNode node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Recomputes the height and size of the given node from its children.
+     *
+     * @param node the node to update
+     */
+    private void update(TreeNode node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    /**
+     * Restores the AVL balance property at the given node.
+     *
+     * @param node the root of a subtree whose children are balanced
+     * @return the new root of the subtree
+     */
+    private TreeNode balance(TreeNode node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Rotates the given subtree to the right.
+     *
+     * @param node the root of the subtree
+     * @return the new root of the subtree
+     */
+    private TreeNode rotateRight(TreeNode node) {
+        TreeNode pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Rotates the given subtree to the left.
+     *
+     * @param node the root of the subtree
+     * @return the new root of the subtree
+     */
+    private TreeNode rotateLeft(TreeNode node) {
+        TreeNode pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in sorted order.
+     * The iterator fails fast if the list is modified while iterating.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new TreeSortedListIterator(0);
+    }
+
+    /**
+     * Returns an iterator over the elements in this list in sorted order,
+     * starting at the given index. The iterator is positioned by descending
+     * the tree once, in O(log n) time.
+     *
+     * @param idx the index of the first element to return
+     * @return an iterator over the elements from the given index on
+     * @throws IndexOutOfBoundsException if the index is less than 0 or
+     *         greater than the size of the list
+     */
+    @Override
+    public Iterator<E> iterator(int idx) {
+        if (idx < 0 || idx > size()) {
+            throw new IndexOutOfBoundsException("Invalid index.");
+        }
+        return new TreeSortedListIterator(idx);
+    }
+
+    /**
+     * Iterator implementation for TreeSortedList.
+     * Iterates over elements in the list in sorted order.
+     */
+    private class TreeSortedListIterator implements Iterator<E> {
+
+        /** The nodes whose elements have not been returned yet, nearest on top */
+        private Deque<TreeNode> stack;
+
+        /** The modification count the list is expected to have */
+        private int expectedModCount;
+
+        /**
+         * Constructs a new TreeSortedListIterator starting at the given index.
+         * The stack holds the node at the index and every ancestor whose
+         * element comes after it, which is what pushLeft would have left
+         * after returning the elements before the index.
+         *
+         * @param start the index of the first element to return
+         */
+        public TreeSortedListIterator(int start) {
+            stack = new ArrayDeque<>();
+            TreeNode node = root;
+            int idx = start;
+            while (node != null) {
+                int leftSize = size(node.left);
+                if (idx <= leftSize) {
+                    stack.push(node);
+                    if (idx == leftSize) {
+                        break;
+                    }
+                    node = node.left;
+                } else {
+                    idx -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Returns true if the iteration has more elements.
+         *
+         * @return true if there are more elements to iterate over
+         */
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element
+         * @throws NoSuchElementException if no more elements exist
+         * @throws ConcurrentModificationException if the list was modified
+         *         after the iterator was created
+         */
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            TreeNode node = stack.pop();
+            pushLeft(node.right);
+            return node.data;
+        }
+
+        /**
+         * Pushes the given node and its chain of left children onto the stack.
+         *
+         * @param node the node to start from, possibly null
+         */
+        private void pushLeft(TreeNode node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+
+        /**
+         * Removing elements through the iterator is not supported.
+         *
+         * @throws UnsupportedOperationException always
+         */
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Remove not supported.");
+        }
+    }
+
+    /**
+     * Private inner class representing a single node in the tree.
+     */
+    private class TreeNode {
+        /** The data stored in this node. */
+        private E data;
+        /** The left child of this node. */
+        private TreeNode left;
+        /** The right child of this node. */
+        private TreeNode right;
+        /** The height of the subtree rooted at this node. */
+        private int height;
+        /** The number of nodes in the subtree rooted at this node. */
+        private int size;
+
+        /**
+         * Constructs a leaf TreeNode with the given data.
+         *
+         * @param data the data element stored in this node
+         */
+        public TreeNode(E data) {
+            this.data = data;
+            this.height = 1;
+            this.size = 1;
+        }
+    }
+}
@@ -10,6 +10,10 @@ import java.awt.GridLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -23,10 +27,14 @@ import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
 import javax.swing.border.Border;
 import javax.swing.border.EtchedBorder;
 import javax.swing.border.TitledBorder;
@@ -35,7 +43,11 @@ import javax.swing.event.ListSelectionListener;
 import javax.swing.table.AbstractTableModel;
 
 import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
+import edu.ncsu.csc216.wolf_proceedings.model.conference.ConferenceEvent;
+import edu.ncsu.csc216.wolf_proceedings.model.conference.ConferenceListener;
+import edu.ncsu.csc216.wolf_proceedings.model.io.AutosaveService;
 import edu.ncsu.csc216.wolf_proceedings.model.io.ConferenceReader;
+import edu.ncsu.csc216.wolf_proceedings.model.io.SaveMetrics;
 import edu.ncsu.csc216.wolf_proceedings.model.proceedings.AcceptedItem;
 import edu.ncsu.csc216.wolf_proceedings.model.proceedings.LightningTalk;
 import edu.ncsu.csc216.wolf_proceedings.model.proceedings.Panel;
@@ -49,7 +61,7 @@ import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
  * 
  * @author Dr. Sarah Heckman
  */
-public class WolfProceedingsGUI extends JFrame implements ActionListener {
+public class WolfProceedingsGUI extends JFrame implements ActionListener, ConferenceListener {
 	
 	/** ID number used for object serialization. */
 	private static final long serialVersionUID = 1L;
@@ -63,6 +75,14 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 	private static final String LOAD_TITLE = "Load Conference";
 	/** Text for the Save menu item. */
 	private static final String SAVE_TITLE = "Save Conference";
+	/** Text for the Save menu item while a save is being written. */
+	private static final String SAVING_TITLE = "Saving Conference...";
+	/** Milliseconds without edits before a changed conference is autosaved. */
+	private static final int AUTOSAVE_DELAY = 2000;
+	/** Milliseconds to wait for a background save before quitting or loading. */
+	private static final long SAVE_WAIT = 30000;
+	/** Number of sessions and accepted items shown at a time while loading. */
+	private static final int LOAD_CHUNK = 20000;
 	/** Text for the Quit menu item. */
 	private static final String QUIT_TITLE = "Quit";
 	/** Value for Paper */
@@ -94,6 +114,21 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 	/** Current conference - null if no conference created. */
 	private Conference conference;
 	
+	/** File the conference was last loaded from or saved to - null if none. */
+	private File conferenceFile;
+	
+	/** Writes snapshots of the conference on a background thread. */
+	private AutosaveService autosave;
+	
+	/** Starts an autosave once edits pause for AUTOSAVE_DELAY. */
+	private Timer autosaveTimer;
+	
+	/** Shows how much of a file has been loaded. */
+	private JProgressBar loadProgress;
+	
+	/** Loads a file in the background - null if no file is loading. */
+	private ConferenceLoader loader;
+	
 	/**
 	 * Constructs a WolfProceedingsGUI object that will contain a JMenuBar and a
 	 * JPanel that will hold different possible views of the data in
@@ -107,6 +142,7 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 		setLocation(50, 50);
 		setTitle(APP_TITLE);
 		setDefaultCloseOperation(EXIT_ON_CLOSE);
+		setUpAutosave();
 		setUpMenuBar();
 		
 		//Add panel to the container
@@ -143,10 +179,156 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 		constraints.fill = GridBagConstraints.BOTH;
 		c.add(pnlAcceptedItems, constraints);
 		
+		loadProgress = new JProgressBar(0, 100);
+		loadProgress.setStringPainted(true);
+		loadProgress.setVisible(false);
+		constraints.gridx = 0;
+		constraints.gridy = 1;
+		constraints.gridwidth = 2;
+		constraints.weighty = 0;
+		constraints.fill = GridBagConstraints.HORIZONTAL;
+		c.add(loadProgress, constraints);
+		
 		//Set the GUI visible
 		setVisible(true);
 	}
 	
+	/**
+	 * Sets up the background saving. Results are handed back to the event
+	 * dispatch thread, which owns the conference.
+	 */
+	private void setUpAutosave() {
+		autosave = new AutosaveService(new AutosaveService.SaveListener() {
+			@Override
+			public void saveFinished(File file, SaveMetrics metrics) {
+				SwingUtilities.invokeLater(() -> updateSaveStatus());
+			}
+
+			@Override
+			public void saveFailed(File file, String message) {
+				SwingUtilities.invokeLater(() -> {
+					if (conference != null && file.equals(conferenceFile)) {
+						conference.setChanged(true);
+					}
+					updateSaveStatus();
+					JOptionPane.showMessageDialog(WolfProceedingsGUI.this, message);
+				});
+			}
+		});
+		autosaveTimer = new Timer(AUTOSAVE_DELAY, e -> {
+			if (conference != null && conference.isChanged() && conferenceFile != null) {
+				saveInBackground(conferenceFile);
+			}
+		});
+		autosaveTimer.setRepeats(false);
+	}
+	
+	/**
+	 * Takes a snapshot of the conference and writes it to the given file on the
+	 * background thread. The conference is marked unchanged right away, so any
+	 * later edit marks it changed again; if the write fails it is marked
+	 * changed when the failure is reported, or by finishBackgroundSave if that
+	 * runs first.
+	 * @param file the file to save to
+	 */
+	private void saveInBackground(File file) {
+		autosaveTimer.stop();
+		conferenceFile = file;
+		autosave.save(file, conference.snapshot());
+		conference.setChanged(false);
+		updateSaveStatus();
+	}
+	
+	/**
+	 * Waits for any background save to finish before the conference is
+	 * replaced or the program quits. The conference is marked changed again
+	 * right away if its save failed or did not finish in time, since the
+	 * failure report from the background thread has not been handled yet, so
+	 * checking isChanged afterwards does not lose edits.
+	 */
+	private void finishBackgroundSave() {
+		autosaveTimer.stop();
+		boolean idle = false;
+		try {
+			idle = autosave.awaitIdle(SAVE_WAIT);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (conference != null && conferenceFile != null && (!idle || autosave.isFailed(conferenceFile))) {
+			conference.setChanged(true);
+		}
+	}
+	
+	/**
+	 * Starts loading a file in the background. The conference is replaced as
+	 * soon as the first part of the file is read, and the tables fill in as
+	 * the rest arrives.
+	 * @param file the file to load
+	 */
+	private void startLoad(File file) {
+		itemNew.setEnabled(false);
+		itemLoad.setEnabled(false);
+		loadProgress.setValue(0);
+		loadProgress.setString("Loading " + file.getName());
+		loadProgress.setVisible(true);
+		loader = new ConferenceLoader(file);
+		loader.execute();
+	}
+	
+	/**
+	 * Replaces the shown conference, moving this GUI's listener from the old
+	 * conference to the new one. Callers refresh the panels.
+	 * @param newConference the conference to show, or null for none
+	 */
+	private void setConference(Conference newConference) {
+		if (conference != null) {
+			conference.removeConferenceListener(this);
+		}
+		conference = newConference;
+		if (conference != null) {
+			conference.addConferenceListener(this);
+		}
+	}
+	
+	/**
+	 * Updates the tables for one change to the conference and restarts the
+	 * autosave delay.
+	 * @param event the change
+	 */
+	@Override
+	public void conferenceChanged(ConferenceEvent event) {
+		pnlSession.conferenceChanged(event);
+		pnlAcceptedItems.conferenceChanged(event);
+		updateSaveStatus();
+	}
+	
+	/**
+	 * Updates the tables for a batch of changes. The tables read their cells
+	 * from the conference, which already holds the result of the whole batch,
+	 * so they are reloaded once instead of being updated for each event.
+	 * @param events the changes in the batch
+	 */
+	@Override
+	public void batchFinished(List<ConferenceEvent> events) {
+		pnlSession.reloadSessions();
+		pnlAcceptedItems.updateAcceptedItems();
+		updateSaveStatus();
+	}
+	
+	/**
+	 * Updates the Save menu item to show whether a save is being written and
+	 * whether there are unsaved changes, and restarts the autosave delay if the
+	 * conference has changed since it was last saved to a known file.
+	 */
+	private void updateSaveStatus() {
+		boolean saving = autosave.isSaving();
+		itemSave.setText(saving ? SAVING_TITLE : SAVE_TITLE);
+		itemSave.setEnabled(!saving && loader == null && conference != null && conference.isChanged());
+		if (conference != null && conference.isChanged() && conferenceFile != null) {
+			autosaveTimer.restart();
+		}
+	}
+	
 	/**
 	 * Makes the GUI Menu bar that contains options working with a file
 	 * containing service conferences and incidents or for quitting the application.
@@ -183,6 +365,7 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 	@Override
 	public void actionPerformed(ActionEvent e) {
 		if (e.getSource() == itemNew) {
+			finishBackgroundSave();
 			if (conference != null && conference.isChanged()) {
 				int select = JOptionPane.showConfirmDialog(null, "Current Conference is unsaved. Would you like to save before creating a new Conference?", "Warning", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
 				if (select == 1) {
@@ -192,18 +375,18 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 				promptForConferenceName();
 			}
 			pnlSession.updateConference();
+			pnlSession.updateSessions();
+			pnlSession.updateAcceptedItemsInSession(-1);
 		} else if (e.getSource() == itemLoad) {
 			try {
+				finishBackgroundSave();
 				if (conference != null && conference.isChanged()) {
 					int select = JOptionPane.showConfirmDialog(null, "Current Conference is unsaved. Would you like to save before creating a new Conference?", "Warning", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
 					if (select == 0) {
-						conference.saveConference(new File(getFileName(false)));
+						conference.saveConferenceAtomic(new File(getFileName(false)));
 					}
 				} 
-				conference = ConferenceReader.readConferenceFile(new File(getFileName(true)));
-				pnlSession.updateSessions();
-				pnlSession.updateAcceptedItemsInSession(0);
-				pnlAcceptedItems.updateAcceptedItems();
+				startLoad(new File(getFileName(true)));
 			} catch (IllegalArgumentException iae) {
 				JOptionPane.showMessageDialog(this, iae.getMessage());
 			} catch (IllegalStateException ise) {
@@ -211,16 +394,17 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 			}
 		} else if (e.getSource() == itemSave) { 
 			try {
-				conference.saveConference(new File(getFileName(false)));
+				saveInBackground(new File(getFileName(false)));
 			} catch (IllegalArgumentException iae) {
 				JOptionPane.showMessageDialog(this, iae.getMessage());
 			} catch (IllegalStateException exp) {
 				//Don't do anything - user canceled (or error)
 			}
 		} else if (e.getSource() == itemQuit) {
+			finishBackgroundSave();
 			if (conference != null && conference.isChanged()) {
 				try {
-					conference.saveConference(new File(getFileName(false)));
+					conference.saveConferenceAtomic(new File(getFileName(false)));
 					System.exit(0);  //Ignore SpotBugs warning here - this is the only place to quit the program!
 				} catch (IllegalArgumentException iae) {
 					JOptionPane.showMessageDialog(this, iae.getMessage());
@@ -233,7 +417,7 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 			}
 		}
 		
-		itemSave.setEnabled(conference != null && conference.isChanged());
+		updateSaveStatus();
 		pnlSession.enableSessionButtons();
 		pnlSession.enableSessionMovementButtons(false);
 		pnlAcceptedItems.updateAcceptedItems();
@@ -250,7 +434,8 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 		if (conferenceName == null) {
 			return; //no need to do anything
 		}
-		conference = new Conference(conferenceName);
+		setConference(new Conference(conferenceName));
+		conferenceFile = null;
 	}
 	
 	/**
@@ -596,10 +781,10 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 				btnRemoveSession.setEnabled(false);
 			} else {
 				btnAddSession.setEnabled(true);
-				btnEditSession.setEnabled(true);
-				btnRemoveSession.setEnabled(true);
+				btnEditSession.setEnabled(loader == null);
+				btnRemoveSession.setEnabled(loader == null);
 				
-				itemSave.setEnabled(conference != null && conference.isChanged());
+				updateSaveStatus();
 				sessionsTableModel.updateData();
 				tableSessions.getColumnModel().getColumn(0).setPreferredWidth(250);
 				tableSessions.getColumnModel().getColumn(1).setPreferredWidth(30);
@@ -620,6 +805,7 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 				btnMoveToFront.setEnabled(false);
 				btnMoveToBack.setEnabled(false);
 				
+				itemsInSessionsTableModel.updateData(-1);
 				lblSessionName.setText("Session Name: ");
 				lblSessionDuration.setText("Duration (min): ");
 				lblSessionAvailability.setText("Availability (min): ");
@@ -637,22 +823,90 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 				tableItemsInSession.getColumnModel().getColumn(2).setPreferredWidth(100);
 				tableItemsInSession.getColumnModel().getColumn(3).setPreferredWidth(5);
 				
-				lblSessionName.setText("Session Name: " + conference.getSessionsAsArray()[idx][0]);
-				lblSessionDuration.setText("Duration (min): " + conference.getSessionsAsArray()[idx][1]);
-				lblSessionAvailability.setText("Availability (min): " + conference.getSessionsAsArray()[idx][2]);
+				updateSessionLabels(idx);
 			}
 			
 		}
 		
 		/**
-		 * Enable or disable buttons to add/edit/remove a session.
+		 * Reloads the sessions table after many changes at once. Session
+		 * indexes may have shifted, so the selected session is cleared.
+		 */
+		public void reloadSessions() {
+			tableSessions.clearSelection();
+			updateAcceptedItemsInSession(-1);
+			updateSessions();
+		}
+		
+		/**
+		 * Shows the name, duration, and availability of a session.
+		 * @param idx index of the session
+		 */
+		private void updateSessionLabels(int idx) {
+			Session session = conference.getSession(idx);
+			lblSessionName.setText("Session Name: " + session.getName());
+			lblSessionDuration.setText("Duration (min): " + session.getDuration());
+			lblSessionAvailability.setText("Availability (min): " + session.getRemainingCapacity());
+		}
+		
+		/**
+		 * Updates the rows of the session tables affected by a change to the
+		 * conference. The shown session's index is adjusted before the sessions
+		 * table changes, since changing that table can change its selection.
+		 * @param event the change
+		 */
+		public void conferenceChanged(ConferenceEvent event) {
+			int shown = itemsInSessionsTableModel.getSessionIdx();
+			switch (event.getType()) {
+				case SESSION_ADDED:
+				case SESSION_EDITED:
+				case SESSION_REMOVED:
+					if (event.getOldSessionIndex() >= 0) {
+						itemsInSessionsTableModel.sessionRemoved(event.getOldSessionIndex());
+						sessionsTableModel.deleteRow(event.getOldSessionIndex());
+					}
+					if (event.getSessionIndex() >= 0) {
+						itemsInSessionsTableModel.sessionInserted(event.getSessionIndex());
+						sessionsTableModel.insertRow(event.getSessionIndex());
+					}
+					break;
+				case ITEM_ASSIGNED:
+				case ITEM_UNASSIGNED:
+					sessionsTableModel.updateRow(event.getSessionIndex());
+					if (event.getSessionIndex() == shown) {
+						if (event.getPosition() >= 0) {
+							itemsInSessionsTableModel.insertRow(event.getPosition());
+						} else {
+							itemsInSessionsTableModel.deleteRow(event.getOldPosition());
+						}
+						updateSessionLabels(shown);
+					}
+					break;
+				case ITEM_REORDERED:
+					if (event.getSessionIndex() == shown) {
+						itemsInSessionsTableModel.updateRows(Math.min(event.getOldPosition(), event.getPosition()),
+								Math.max(event.getOldPosition(), event.getPosition()));
+					}
+					break;
+				case CONTENTS_ADDED:
+					reloadSessions();
+					break;
+				default:
+					break;
+			}
+		}
+		
+		/**
+		 * Enable or disable buttons to add/edit/remove a session. Sessions
+		 * cannot be edited or removed while a file loads, since the items
+		 * still to be read refer to them.
 		 */
 		public void enableSessionButtons() {
 			boolean enable = conference != null;
 			
 			btnAddSession.setEnabled(enable);
-			btnEditSession.setEnabled(enable);
-			btnRemoveSession.setEnabled(enable);
+			btnEditSession.setEnabled(enable && loader == null);
+			btnRemoveSession.setEnabled(enable && loader == null);
 		}
 		
 		/**
@@ -711,7 +965,8 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 				}
 				
 				try {
-					conference.getSession(idxActiveSession).getItemList().moveUp(itemInSessionRowIdx);
+					int movedIdx = conference.moveItemUp(idxActiveSession, itemInSessionRowIdx);
+					tableItemsInSession.setRowSelectionInterval(movedIdx, movedIdx);
 				} catch (IllegalArgumentException | IndexOutOfBoundsException iae) {
 					JOptionPane.showMessageDialog(SessionsPanel.this, 
 							"No item selected.", 
@@ -731,7 +986,8 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 				}
 				
 				try {
-					conference.getSession(idxActiveSession).getItemList().moveDown(itemInSessionRowIdx);
+					int movedIdx = conference.moveItemDown(idxActiveSession, itemInSessionRowIdx);
+					tableItemsInSession.setRowSelectionInterval(movedIdx, movedIdx);
 				} catch (IllegalArgumentException | IndexOutOfBoundsException iae) {
 					JOptionPane.showMessageDialog(SessionsPanel.this, 
 							"No item selected.", 
@@ -751,7 +1007,8 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 				}
 				
 				try {
-					conference.getSession(idxActiveSession).getItemList().moveToFront(itemInSessionRowIdx);
+					int movedIdx = conference.moveItemToFront(idxActiveSession, itemInSessionRowIdx);
+					tableItemsInSession.setRowSelectionInterval(movedIdx, movedIdx);
 				} catch (IllegalArgumentException | IndexOutOfBoundsException iae) {
 					JOptionPane.showMessageDialog(SessionsPanel.this, 
 							"No item selected.", 
@@ -771,7 +1028,8 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 				}
 				
 				try {
-					conference.getSession(idxActiveSession).getItemList().moveToBack(itemInSessionRowIdx);
+					int movedIdx = conference.moveItemToBack(idxActiveSession, itemInSessionRowIdx);
+					tableItemsInSession.setRowSelectionInterval(movedIdx, movedIdx);
 				} catch (IllegalArgumentException | IndexOutOfBoundsException iae) {
 					JOptionPane.showMessageDialog(SessionsPanel.this, 
 							"No item selected.", 
@@ -780,8 +1038,10 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 				}
 			}
 			
-			updateSessions();
-			updateAcceptedItemsInSession(idxActiveSession);
+			if (e.getSource() == btnAddSession || e.getSource() == btnEditSession
+					|| e.getSource() == btnRemoveSession) {
+				updateAcceptedItemsInSession(idxActiveSession);
+			}
 						
 			WolfProceedingsGUI.this.repaint();
 			WolfProceedingsGUI.this.validate();
@@ -836,7 +1096,8 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 		
 		/**
 		 * SessionsTableModel is the object underlying the JTable object that displays
-		 * the list of Sessions to the user.
+		 * the list of Sessions to the user. Cells are read from the conference
+		 * when the table draws them, so only the visible rows are built.
 		 */
 		private class SessionsTableModel extends AbstractTableModel {
 			
@@ -844,8 +1105,6 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 			private static final long serialVersionUID = 1L;
 			/** Column names for the table */
 			private String [] columnNames = {"Session Name", "Duration (min)", "Available Time (min)"};
-			/** Data stored in the table */
-			private Object [][] data;
 			
 			
 			/**
@@ -871,9 +1130,9 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 			 */
 			@Override
 			public int getRowCount() {
-				if (data == null) 
+				if (conference == null) 
 					return 0;
-				return data.length;
+				return conference.getSessionCount();
 			}
 			
 			/**
@@ -894,37 +1153,45 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 			 */
 			@Override
 			public Object getValueAt(int row, int col) {
-				if (data == null)
-					return null;
-				return data[row][col];
+				return conference.getSessionValue(row, col);
 			}
 			
 			/**
-			 * Sets the given value to the given {row, col} location.
-			 * @param value Object to modify in the data.
-			 * @param row the row index
-			 * @param col the column index
+			 * Updates the given model with Session information
 			 */
-			@Override
-			public void setValueAt(Object value, int row, int col) {
-				data[row][col] = value;
-				fireTableCellUpdated(row, col);
+			private void updateData() {
+				fireTableDataChanged();
 			}
 			
 			/**
-			 * Updates the given model with Session information
+			 * Adds the row for the session added at the given index.
+			 * @param row the index of the added session
 			 */
-			private void updateData() {
-				if (conference != null) {
-					data = conference.getSessionsAsArray();
-					fireTableStructureChanged();
-				}
+			private void insertRow(int row) {
+				fireTableRowsInserted(row, row);
+			}
+			
+			/**
+			 * Removes the row for the session removed from the given index.
+			 * @param row the index of the removed session
+			 */
+			private void deleteRow(int row) {
+				fireTableRowsDeleted(row, row);
+			}
+			
+			/**
+			 * Refreshes the row for the session at the given index.
+			 * @param row the index of the changed session
+			 */
+			private void updateRow(int row) {
+				fireTableRowsUpdated(row, row);
 			}
 		}
 		
 		/**
 		 * ItemsInSessionTableModel is the object underlying the JTable object that displays
-		 * the list of accepted items in the session to the user.
+		 * the list of accepted items in the session to the user. Cells are read
+		 * from the conference when the table draws them.
 		 */
 		private class ItemsInSessionTableModel extends AbstractTableModel {
 			
@@ -932,8 +1199,8 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 			private static final long serialVersionUID = 1L;
 			/** Column names for the table */
 			private String [] columnNames = {"Type", "Author(s)", "Title", "Duration (min)"};
-			/** Data stored in the table */
-			private Object [][] data;
+			/** Index of the session whose items are shown, or -1 if none */
+			private int sessionIdx = -1;
 			
 			/**
 			 * Constructs the ItemsInSessionTableModel by requesting the latest information
@@ -958,9 +1225,9 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 			 */
 			@Override
 			public int getRowCount() {
-				if (data == null) 
+				if (conference == null || sessionIdx < 0 || sessionIdx >= conference.getSessionCount()) 
 					return 0;
-				return data.length;
+				return conference.getAcceptedItemsInSessionCount(sessionIdx);
 			}
 			
 			/**
@@ -981,33 +1248,77 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 			 */
 			@Override
 			public Object getValueAt(int row, int col) {
-				if (data == null)
-					return null;
-				return data[row][col];
+				return conference.getAcceptedItemInSessionValue(sessionIdx, row, col);
 			}
 			
 			/**
-			 * Sets the given value to the given {row, col} location.
-			 * @param value Object to modify in the data.
-			 * @param row the row index
-			 * @param col the column index
+			 * Updates the given model with Session information
+			 * @param idx of which session to use, or -1 to clear the table
 			 */
-			@Override
-			public void setValueAt(Object value, int row, int col) {
-				data[row][col] = value;
-				fireTableCellUpdated(row, col);
+			private void updateData(int idx) {
+				sessionIdx = idx;
+				fireTableDataChanged();
 			}
 			
 			/**
-			 * Updates the given model with Session information
-			 * @param idx of which session to use
+			 * Returns the index of the session whose items are shown.
+			 * @return the index of the shown session, or -1 if none
 			 */
-			private void updateData(int idx) {
-				if (conference != null && idx > -1) {
-					data = conference.getAcceptedItemsInSessionAsArray(idx);
-					fireTableStructureChanged();
+			private int getSessionIdx() {
+				return sessionIdx;
+			}
+			
+			/**
+			 * Adjusts the shown session's index for a session inserted at the
+			 * given index.
+			 * @param idx the index of the inserted session
+			 */
+			private void sessionInserted(int idx) {
+				if (sessionIdx >= idx) {
+					sessionIdx++;
+				}
+			}
+			
+			/**
+			 * Adjusts the shown session's index for a session removed from the
+			 * given index, clearing the table if the shown session was removed.
+			 * @param idx the index of the removed session
+			 */
+			private void sessionRemoved(int idx) {
+				if (sessionIdx == idx) {
+					updateData(-1);
+				} else if (sessionIdx > idx) {
+					sessionIdx--;
 				}
 			}
+			
+			/**
+			 * Adds the row for the item added to the shown session at the given
+			 * position.
+			 * @param row the position of the added item
+			 */
+			private void insertRow(int row) {
+				fireTableRowsInserted(row, row);
+			}
+			
+			/**
+			 * Removes the row for the item removed from the shown session at the
+			 * given position.
+			 * @param row the position of the removed item
+			 */
+			private void deleteRow(int row) {
+				fireTableRowsDeleted(row, row);
+			}
+			
+			/**
+			 * Refreshes the rows between the given indexes, inclusive, after the
+			 * items in the session were reordered.
+			 * @param first the first changed row
+			 * @param last the last changed row
+			 */
+			private void updateRows(int first, int last) {
+				fireTableRowsUpdated(first, last);
+			}
 		}
 	}
 	
@@ -1135,6 +1446,37 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 			}
 		}
 		
+		/**
+		 * Updates the rows of the accepted items table affected by a change to
+		 * the conference.
+		 * @param event the change
+		 */
+		public void conferenceChanged(ConferenceEvent event) {
+			switch (event.getType()) {
+				case ITEM_ADDED:
+				case ITEM_EDITED:
+				case ITEM_REMOVED:
+					if (event.getOldItemIndex() >= 0) {
+						tableModel.deleteRow(event.getOldItemIndex());
+					}
+					if (event.getItemIndex() >= 0) {
+						tableModel.insertRow(event.getItemIndex());
+					}
+					break;
+				case ITEM_ASSIGNED:
+				case ITEM_UNASSIGNED:
+					if (event.getItemIndex() >= 0) {
+						tableModel.updateRow(event.getItemIndex());
+					}
+					break;
+				case CONTENTS_ADDED:
+					updateAcceptedItems();
+					break;
+				default:
+					break;
+			}
+		}
+		
 		/**
 		 * Performs actions depending on which button is clicked.
 		 * @param e action event encapsulating the action
@@ -1179,8 +1521,6 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 				}
 				try {		
 					conference.addItemToSession(selectedSessionIndex, selectedItemIndex);
-					pnlSession.updateSessions();
-					pnlSession.updateAcceptedItemsInSession(selectedSessionIndex);
 				} catch (IllegalArgumentException iae) {
 					JOptionPane.showMessageDialog(WolfProceedingsGUI.this, 
 							iae.getMessage(), 
@@ -1208,12 +1548,8 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 					return;
 				}
 				conference.removeItemFromSession(selectedSessionIndex, selectedItemInSession);
-				pnlSession.updateSessions();
-				pnlSession.updateAcceptedItemsInSession(selectedSessionIndex);
 			}
 			
-			updateAcceptedItems();
-			
 			WolfProceedingsGUI.this.repaint();
 			WolfProceedingsGUI.this.validate();
 		}
@@ -1288,7 +1624,9 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 		
 		/**
 		 * AcceptedItemsTableModel is the object underlying the JTable object that displays
-		 * the list of accepted items.
+		 * the list of accepted items. Cells are read from the conference when the
+		 * table draws them, so only the visible rows are built however many
+		 * items the conference has.
 		 */
 		private class AcceptedItemsTableModel extends AbstractTableModel {
 			
@@ -1296,8 +1634,6 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 			private static final long serialVersionUID = 1L;
 			/** Column names for the table */
 			private String [] columnNames = {"Type", "Author(s)", "Title", "Duration", "Session"};
-			/** Data stored in the table */
-			private Object [][] data;
 			
 			/**
 			 * Constructs the IncidentTableModel by requesting the latest information
@@ -1322,9 +1658,9 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 			 */
 			@Override
 			public int getRowCount() {
-				if (data == null) 
+				if (conference == null) 
 					return 0;
-				return data.length;
+				return conference.getAcceptedItemCount();
 			}
 			
 			/**
@@ -1345,31 +1681,38 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 			 */
 			@Override
 			public Object getValueAt(int row, int col) {
-				if (data == null)
-					return null;
-				return data[row][col];
+				return conference.getAcceptedItemValue(row, col);
 			}
 			
 			/**
-			 * Sets the given value to the given {row, col} location.
-			 * @param value Object to modify in the data.
-			 * @param row the row index
-			 * @param col the column index
+			 * Updates the given model with AcceptedItems information for the proceedings.
 			 */
-			@Override
-			public void setValueAt(Object value, int row, int col) {
-				data[row][col] = value;
-				fireTableCellUpdated(row, col);
+			public void updateData() {
+				fireTableDataChanged();
 			}
 			
 			/**
-			 * Updates the given model with AcceptedItems information for the proceedings.
+			 * Adds the row for the accepted item added at the given index.
+			 * @param row the index of the added item
 			 */
-			public void updateData() {
-				if (conference != null) {
-					data = conference.getAcceptedItemsAsArray();
-					fireTableStructureChanged();
-				}
+			public void insertRow(int row) {
+				fireTableRowsInserted(row, row);
+			}
+			
+			/**
+			 * Removes the row for the accepted item removed from the given index.
+			 * @param row the index of the removed item
+			 */
+			public void deleteRow(int row) {
+				fireTableRowsDeleted(row, row);
+			}
+			
+			/**
+			 * Refreshes the row for the accepted item at the given index.
+			 * @param row the index of the changed item
+			 */
+			public void updateRow(int row) {
+				fireTableRowsUpdated(row, row);
 			}
 		}
 		
@@ -1677,5 +2020,219 @@ public class WolfProceedingsGUI extends JFrame implements ActionListener {
 	        }
 	    }
 	}
-
-}
\ No newline at end of file
+	
+	/**
+	 * Loads a conference file on a background thread. The reader hands over the
+	 * file in chunks, which are queued and published; the event dispatch thread
+	 * adds each chunk to the new conference with addAll and refreshes the
+	 * tables and progress bar. Items refer to their session by identity, so
+	 * sessions cannot be edited or removed until the load is done. Other edits
+	 * are allowed, but a session or item from the file that clashes with one
+	 * of them is skipped; the file is then not set as the conference's file,
+	 * so the autosave does not write the shortened conference over it.
+	 */
+	private class ConferenceLoader extends SwingWorker<Void, Long> implements ConferenceReader.ChunkListener {
+		
+		/** File being loaded. */
+		private File file;
+		/** Conference shown before the load, restored if the load fails. */
+		private Conference previous;
+		/** File of the conference shown before the load. */
+		private File previousFile;
+		/** Conference name read from the file. */
+		private volatile String name;
+		/** Chunks read but not yet added to the conference. */
+		private ConcurrentLinkedQueue<Chunk> pending;
+		/** True once the conference has been replaced. */
+		private boolean started;
+		/** True if part of the file was skipped after the conference was edited. */
+		private boolean lost;
+		
+		/**
+		 * Constructs a loader for the given file.
+		 * @param file file to load
+		 */
+		ConferenceLoader(File file) {
+			this.file = file;
+			previous = conference;
+			previousFile = conferenceFile;
+			pending = new ConcurrentLinkedQueue<Chunk>();
+			conferenceFile = null;
+		}
+		
+		/**
+		 * Reads the file, queuing each chunk.
+		 * @return nothing
+		 */
+		@Override
+		protected Void doInBackground() {
+			ConferenceReader.readConferenceFile(file, this, LOAD_CHUNK);
+			return null;
+		}
+		
+		/**
+		 * Checks and records the conference name.
+		 * @param conferenceName name read from the file
+		 */
+		@Override
+		public void nameRead(String conferenceName) {
+			new Conference(conferenceName); // throws if the name is invalid
+			name = conferenceName;
+		}
+		
+		/**
+		 * Queues a chunk and publishes the progress.
+		 * @param sessions sessions in the chunk
+		 * @param items accepted items in the chunk
+		 * @param bytesRead bytes of the file read so far
+		 * @param totalBytes size of the file
+		 */
+		@Override
+		public void chunkRead(List<Session> sessions, Map<AcceptedItem, Session> items, long bytesRead,
+				long totalBytes) {
+			pending.add(new Chunk(sessions, items, bytesRead, totalBytes));
+			publish(bytesRead);
+		}
+		
+		/**
+		 * Adds the queued chunks to the conference, which refreshes the view.
+		 * @param progress bytes read when each chunk was published
+		 */
+		@Override
+		protected void process(List<Long> progress) {
+			applyPending();
+		}
+		
+		/**
+		 * Adds any chunks still queued, then finishes the load or restores the
+		 * previous conference if the file could not be loaded.
+		 */
+		@Override
+		protected void done() {
+			loader = null;
+			itemNew.setEnabled(true);
+			itemLoad.setEnabled(true);
+			loadProgress.setVisible(false);
+			try {
+				get();
+				applyPending();
+				if (lost) {
+					JOptionPane.showMessageDialog(WolfProceedingsGUI.this, "Parts of " + file.getName()
+							+ " clash with edits made while loading and were skipped. Save to keep the edits.");
+				} else {
+					conferenceFile = file;
+				}
+			} catch (ExecutionException e) {
+				String message = e.getCause() instanceof IllegalArgumentException
+						? e.getCause().getMessage() : "Unable to load file.";
+				if (started && conference.isChanged()) {
+					int select = JOptionPane.showConfirmDialog(WolfProceedingsGUI.this, message
+							+ " Keep the part that was loaded along with your edits?", "Warning",
+							JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+					if (select != JOptionPane.YES_OPTION) {
+						setConference(previous);
+						conferenceFile = previousFile;
+					}
+				} else {
+					setConference(previous);
+					conferenceFile = previousFile;
+					JOptionPane.showMessageDialog(WolfProceedingsGUI.this, message);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			pnlSession.updateConference();
+			pnlSession.updateSessions();
+			boolean hasSessions = conference != null && conference.getSessionCount() > 0;
+			pnlSession.updateAcceptedItemsInSession(hasSessions ? 0 : -1);
+			pnlSession.enableSessionButtons();
+			pnlAcceptedItems.updateAcceptedItems();
+			updateSaveStatus();
+		}
+		
+		/**
+		 * Adds the queued chunks to the conference, replacing the shown
+		 * conference with the loaded one on the first chunk. The loaded
+		 * conference keeps its lists in balanced trees, so a chunk costs about
+		 * the same on the event thread however much has already been loaded.
+		 * Loading does not mark the conference as changed, but edits made
+		 * while loading do. Once it has been edited, any session or item of a
+		 * chunk that did not make it into the conference is noted as lost.
+		 */
+		private void applyPending() {
+			if (pending.isEmpty()) {
+				return;
+			}
+			if (!started) {
+				setConference(ConferenceReader.createChunkedConference(name));
+				conference.setChanged(false);
+				started = true;
+			}
+			conference.beginBatch();
+			try {
+				Chunk chunk;
+				while ((chunk = pending.poll()) != null) {
+					boolean changed = conference.isChanged();
+					conference.addAll(chunk.sessions, chunk.items);
+					conference.setChanged(changed);
+					if (changed && !lost) {
+						lost = !isLoaded(chunk);
+					}
+					loadProgress.setValue((int) (100 * chunk.bytesRead / Math.max(1, chunk.totalBytes)));
+					loadProgress.setString(String.format("Loading %s: %,d of %,d bytes", file.getName(),
+							chunk.bytesRead, chunk.totalBytes));
+				}
+			} finally {
+				conference.endBatch();
+			}
+		}
+		
+		/**
+		 * Returns true if every session and accepted item of a chunk is in the
+		 * conference.
+		 * @param chunk chunk just added
+		 * @return true if nothing in the chunk was skipped
+		 */
+		private boolean isLoaded(Chunk chunk) {
+			for (Session session : chunk.sessions) {
+				if (conference.getSessionByName(session.getName()) != session) {
+					return false;
+				}
+			}
+			for (AcceptedItem item : chunk.items.keySet()) {
+				if (conference.findAcceptedItem(item.getTitle(), item.getAuthors()) != item) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+	
+	/**
+	 * A chunk of sessions and accepted items read from a file.
+	 */
+	private static class Chunk {
+		/** Sessions in the chunk. */
+		private List<Session> sessions;
+		/** Accepted items in the chunk, mapped to their sessions. */
+		private Map<AcceptedItem, Session> items;
+		/** Bytes of the file read when the chunk was complete. */
+		private long bytesRead;
+		/** Size of the file. */
+		private long totalBytes;
+		
+		/**
+		 * Constructs a chunk.
+		 * @param sessions sessions in the chunk
+		 * @param items accepted items in the chunk
+		 * @param bytesRead bytes of the file read so far
+		 * @param totalBytes size of the file
+		 */
+		Chunk(List<Session> sessions, Map<AcceptedItem, Session> items, long bytesRead, long totalBytes) {
+			this.sessions = sessions;
+			this.items = items;
+			this.bytesRead = bytesRead;
+			this.totalBytes = totalBytes;
+		}
+	}
+}
@@ -4,13 +4,22 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import edu.ncsu.csc216.wolf_proceedings.model.io.SaveMetrics;
 import edu.ncsu.csc216.wolf_proceedings.model.proceedings.AcceptedItem;
 import edu.ncsu.csc216.wolf_proceedings.model.proceedings.Paper;
 import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
+import edu.ncsu.csc216.wolf_proceedings.model.util.ArraySortedList;
+import edu.ncsu.csc216.wolf_proceedings.model.util.TreeSortedList;
 
 /**
  * Unit tests for the Conference class. Tests adding, editing, and removing
@@ -299,5 +308,570 @@ public class ConferenceTest {
         assertTrue(conf.isChanged());
     }
 
+    /** Tests constructing a conference backed by array-based sorted lists */
+    @Test
+    void testConferenceWithArraySortedList() {
+        Conference arrayConf = new Conference("Array Conference",
+                new ArraySortedList<Session>(), new ArraySortedList<AcceptedItem>());
+        Session session2 = new Session("Alpha", 60);
+        assertEquals(0, arrayConf.addSession(session1));
+        assertEquals(0, arrayConf.addSession(session2));
+        arrayConf.addAcceptedItem(paper1);
+        arrayConf.addItemToSession(1, 0);
+
+        assertEquals("Alpha", arrayConf.getSessionsAsArray()[0][0]);
+        assertEquals("Session1", arrayConf.getAcceptedItemsAsArray()[0][4]);
+    }
+
+    /** Tests that the backing lists must be non-null and empty */
+    @Test
+    void testConferenceWithInvalidLists() {
+        ArraySortedList<Session> nonEmpty = new ArraySortedList<>();
+        nonEmpty.add(session1);
+        assertThrows(IllegalArgumentException.class,
+                () -> new Conference("Conf", null, new ArraySortedList<AcceptedItem>()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Conference("Conf", nonEmpty, new ArraySortedList<AcceptedItem>()));
+    }
+
+    /** Tests looking up sessions by name as sessions are added, edited, and removed */
+    @Test
+    void testGetSessionByName() {
+        assertNull(conf.getSessionByName("Session1"));
+        conf.addSession(session1);
+        assertSame(session1, conf.getSessionByName("Session1"));
+
+        Session renamed = new Session("Renamed", 60);
+        conf.editSession(0, renamed);
+        assertNull(conf.getSessionByName("Session1"));
+        assertSame(renamed, conf.getSessionByName("Renamed"));
+
+        assertThrows(IllegalArgumentException.class, () -> conf.addSession(new Session("Renamed", 30)));
+        conf.removeSession(0);
+        assertNull(conf.getSessionByName("Renamed"));
+        assertEquals(0, conf.addSession(new Session("Renamed", 30)));
+    }
+
+    /** Tests finding accepted items by title and authors */
+    @Test
+    void testFindAcceptedItem() {
+        assertNull(conf.findAcceptedItem("Title A", "Author A"));
+        conf.addAcceptedItem(paper1);
+        assertSame(paper1, conf.findAcceptedItem("Title A", "Author A"));
+        assertNull(conf.findAcceptedItem("Title A", "Author B"));
+
+        AcceptedItem paper2 = new Paper("Author B", "Title B", 45);
+        conf.editAcceptedItem(0, paper2);
+        assertNull(conf.findAcceptedItem("Title A", "Author A"));
+        assertSame(paper2, conf.findAcceptedItem("Title B", "Author B"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> conf.addAcceptedItem(new Paper("Author B", "Title B", 20)));
+        conf.removeAcceptedItem(0);
+        assertNull(conf.findAcceptedItem("Title B", "Author B"));
+        conf.addAcceptedItem(new Paper("Author B", "Title B", 20));
+        assertEquals(1, conf.getAcceptedItemsAsArray().length);
+    }
+
+    /** Tests adding a batch of sessions and items, skipping duplicates */
+    @Test
+    void testAddAll() {
+        conf.addSession(session1);
+        Session beta = new Session("Beta", 60);
+        Session lowerAlpha = new Session("alpha", 30);
+        Session upperAlpha = new Session("Alpha", 30);
+        Session duplicate = new Session("Beta", 90);
+        List<Session> sessions = Arrays.asList(beta, lowerAlpha, upperAlpha, duplicate,
+                new Session("Session1", 10));
+
+        AcceptedItem inBeta = new Paper("Author B", "Title B", 45);
+        AcceptedItem tooLong = new Paper("Author C", "Title C", 30);
+        AcceptedItem inDuplicate = new Paper("Author D", "Title D", 10);
+        AcceptedItem unassigned = new Paper("Author E", "Title E", 10);
+        Map<AcceptedItem, Session> items = new LinkedHashMap<>();
+        items.put(inBeta, beta);
+        items.put(tooLong, beta);
+        items.put(inDuplicate, duplicate);
+        items.put(unassigned, null);
+        items.put(new Paper("Author B", "Title B", 5), null);
+        conf.addAll(sessions, items);
+
+        String[][] sessionArray = conf.getSessionsAsArray();
+        assertEquals(4, sessionArray.length);
+        assertEquals("Alpha", sessionArray[0][0]);
+        assertEquals("alpha", sessionArray[1][0]);
+        assertEquals("Beta", sessionArray[2][0]);
+        assertEquals("15", sessionArray[2][2]);
+        assertEquals("Session1", sessionArray[3][0]);
+        assertSame(beta, conf.getSessionByName("Beta"));
+
+        String[][] itemArray = conf.getAcceptedItemsAsArray();
+        assertEquals(3, itemArray.length);
+        assertEquals("Beta", itemArray[0][4]);
+        assertEquals("", itemArray[1][4]);
+        assertEquals("", itemArray[2][4]);
+        assertNull(conf.findAcceptedItem("Title D", "Author D"));
+        assertSame(unassigned, conf.findAcceptedItem("Title E", "Author E"));
+    }
+
+    /**
+     * Tests saving the conference atomically, which replaces the file with the
+     * same contents a normal save writes and resets the isChanged flag, and
+     * taking a snapshot of the same contents.
+     *
+     * @throws IOException if the temporary files cannot be created or read
+     */
+    @Test
+    void testSaveConferenceAtomic() throws IOException {
+        conf.addSession(session1);
+        conf.addAcceptedItem(new Paper("Author A", "Title A", 10));
+        File expected = File.createTempFile("expectedConference", ".txt");
+        expected.deleteOnExit();
+        conf.saveConference(expected);
+
+        conf.setChanged(true);
+        File tempFile = File.createTempFile("testConference", ".txt");
+        tempFile.deleteOnExit();
+        SaveMetrics metrics = conf.saveConferenceAtomic(tempFile);
+        assertFalse(conf.isChanged());
+        assertEquals(tempFile.length(), metrics.getBytes());
+        assertArrayEquals(Files.readAllBytes(expected.toPath()), Files.readAllBytes(tempFile.toPath()));
+        assertArrayEquals(Files.readAllBytes(expected.toPath()), conf.snapshot());
+        assertFalse(conf.isChanged());
+        assertThrows(IllegalArgumentException.class, () -> conf.saveConferenceAtomic(null));
+    }
+
+    /**
+     * Tests that adding and editing accepted items return their indexes, and
+     * that single rows match the rows of the full arrays.
+     */
+    @Test
+    void testRowsAsArray() {
+        assertEquals(0, conf.addAcceptedItem(paper1));
+        AcceptedItem paper0 = new Paper("Author 0", "A First Title", 15);
+        assertEquals(0, conf.addAcceptedItem(paper0));
+        assertEquals(1, conf.indexOfAcceptedItem(paper1));
+        assertEquals(-1, conf.indexOfAcceptedItem(new Paper("Author A", "Title A", 60)));
+        assertEquals(-1, conf.indexOfAcceptedItem(null));
+
+        conf.addSession(session1);
+        conf.addSession(new Session("A Session", 60));
+        conf.addItemToSession(1, 1);
+        assertArrayEquals(conf.getSessionsAsArray()[1], conf.getSessionAsArray(1));
+        assertArrayEquals(new String[] {"Session1", "120", "60"}, conf.getSessionAsArray(1));
+        assertArrayEquals(conf.getAcceptedItemsAsArray()[1], conf.getAcceptedItemAsArray(1));
+        assertEquals("Session1", conf.getAcceptedItemAsArray(1)[4]);
+        assertEquals("", conf.getAcceptedItemAsArray(0)[4]);
+        assertArrayEquals(conf.getAcceptedItemsInSessionAsArray(1)[0], conf.getAcceptedItemInSessionAsArray(1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> conf.getSessionAsArray(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> conf.getAcceptedItemAsArray(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> conf.getAcceptedItemInSessionAsArray(0, 0));
+
+        assertEquals(1, conf.editAcceptedItem(0, new Paper("Author Z", "Z Title", 20)));
+        assertEquals("Z Title", conf.getAcceptedItemAsArray(1)[2]);
+    }
+
+    /**
+     * Checks the type and indexes of an event.
+     * 
+     * @param event the event to check
+     * @param type the expected type
+     * @param indexes the expected old and new session indexes, old and new
+     *        item indexes, and old and new positions
+     */
+    private void assertEvent(ConferenceEvent event, ConferenceEvent.Type type, int... indexes) {
+        assertEquals(type, event.getType());
+        assertSame(conf, event.getConference());
+        assertEquals(Arrays.toString(indexes), Arrays.toString(new int[] {event.getOldSessionIndex(),
+            event.getSessionIndex(), event.getOldItemIndex(), event.getItemIndex(), event.getOldPosition(),
+            event.getPosition()}), event.toString());
+    }
+
+    /**
+     * Tests that each change to the conference sends one event with the
+     * indexes of what changed, and that failed changes send none.
+     */
+    @Test
+    void testConferenceListener() {
+        List<ConferenceEvent> events = new ArrayList<ConferenceEvent>();
+        ConferenceListener listener = events::add;
+        conf.addConferenceListener(listener);
+        assertThrows(NullPointerException.class, () -> conf.addConferenceListener(null));
+
+        conf.addSession(session1);
+        conf.addSession(new Session("A Session", 60));
+        assertEvent(events.get(0), ConferenceEvent.Type.SESSION_ADDED, -1, 0, -1, -1, -1, -1);
+        assertEvent(events.get(1), ConferenceEvent.Type.SESSION_ADDED, -1, 0, -1, -1, -1, -1);
+        conf.editSession(0, new Session("Z Session", 120));
+        assertEvent(events.get(2), ConferenceEvent.Type.SESSION_EDITED, 0, 1, -1, -1, -1, -1);
 
+        conf.addAcceptedItem(paper1);
+        assertEvent(events.get(3), ConferenceEvent.Type.ITEM_ADDED, -1, -1, -1, 0, -1, -1);
+        assertThrows(IllegalArgumentException.class, () -> conf.addAcceptedItem(paper1));
+        assertEquals(4, events.size());
+        AcceptedItem paper2 = new Paper("Author B", "Title B", 30);
+        AcceptedItem paper3 = new Paper("Author C", "Title C", 20);
+        conf.addAcceptedItem(paper2);
+        conf.addAcceptedItem(paper3);
+        conf.editAcceptedItem(2, new Paper("Author 0", "A Title", 10));
+        assertEvent(events.get(6), ConferenceEvent.Type.ITEM_EDITED, -1, -1, 2, 0, -1, -1);
+
+        conf.addItemToSession(1, 1);
+        conf.addItemToSession(1, 2);
+        conf.addItemToSession(1, 0);
+        assertEvent(events.get(7), ConferenceEvent.Type.ITEM_ASSIGNED, 1, 1, 1, 1, -1, 0);
+        assertEvent(events.get(9), ConferenceEvent.Type.ITEM_ASSIGNED, 1, 1, 0, 0, -1, 2);
+        assertThrows(IllegalArgumentException.class, () -> conf.addItemToSession(0, 0));
+        assertEquals(10, events.size());
+
+        conf.setChanged(false);
+        assertEquals(0, conf.moveItemUp(1, 0));
+        assertFalse(conf.isChanged());
+        assertEquals(2, conf.moveItemToBack(1, 0));
+        assertEvent(events.get(10), ConferenceEvent.Type.ITEM_REORDERED, 1, 1, -1, -1, 0, 2);
+        assertTrue(conf.isChanged());
+        assertEquals(0, conf.moveItemToFront(1, 2));
+        assertEquals(1, conf.moveItemDown(1, 0));
+        assertEquals(0, conf.moveItemUp(1, 1));
+        assertEquals(14, events.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> conf.moveItemUp(1, 3));
+        assertEquals("Title A", conf.getAcceptedItemsInSessionAsArray(1)[0][2]);
+
+        conf.removeItemFromSession(1, 0);
+        assertEvent(events.get(14), ConferenceEvent.Type.ITEM_UNASSIGNED, 1, 1, 1, 1, 0, -1);
+        conf.removeAcceptedItem(2);
+        assertEvent(events.get(15), ConferenceEvent.Type.ITEM_REMOVED, -1, -1, 2, -1, -1, -1);
+        conf.removeItemFromSession(1, 0);
+        assertEvent(events.get(16), ConferenceEvent.Type.ITEM_UNASSIGNED, 1, 1, -1, -1, 0, -1);
+        conf.removeSession(1);
+        assertEvent(events.get(17), ConferenceEvent.Type.SESSION_REMOVED, 1, -1, -1, -1, -1, -1);
+
+        Map<AcceptedItem, Session> items = new LinkedHashMap<AcceptedItem, Session>();
+        conf.addAll(Arrays.asList(new Session("Loaded", 30)), items);
+        assertEvent(events.get(18), ConferenceEvent.Type.CONTENTS_ADDED, -1, -1, -1, -1, -1, -1);
+
+        conf.removeConferenceListener(listener);
+        conf.removeSession(0);
+        assertEquals(19, events.size());
+    }
+
+    /**
+     * Tests that events made during a batch are held until the outermost batch
+     * ends and then handed over together in order.
+     */
+    @Test
+    void testConferenceListenerBatch() {
+        List<ConferenceEvent> single = new ArrayList<ConferenceEvent>();
+        List<List<ConferenceEvent>> batches = new ArrayList<List<ConferenceEvent>>();
+        ConferenceListener listener = new ConferenceListener() {
+            @Override
+            public void conferenceChanged(ConferenceEvent event) {
+                single.add(event);
+            }
+
+            @Override
+            public void batchFinished(List<ConferenceEvent> events) {
+                batches.add(events);
+            }
+        };
+        conf.addConferenceListener(listener);
+        List<ConferenceEvent> replayed = new ArrayList<ConferenceEvent>();
+        conf.addConferenceListener(replayed::add);
+
+        conf.beginBatch();
+        conf.addSession(session1);
+        conf.beginBatch();
+        conf.addAcceptedItem(paper1);
+        conf.endBatch();
+        assertTrue(batches.isEmpty());
+        conf.addItemToSession(0, 0);
+        conf.endBatch();
+        assertTrue(single.isEmpty());
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).size());
+        assertEquals(ConferenceEvent.Type.SESSION_ADDED, batches.get(0).get(0).getType());
+        assertEquals(ConferenceEvent.Type.ITEM_ASSIGNED, batches.get(0).get(2).getType());
+        assertEquals(batches.get(0), replayed);
+
+        conf.beginBatch();
+        conf.endBatch();
+        assertEquals(1, batches.size());
+        assertThrows(IllegalStateException.class, () -> conf.endBatch());
+
+        conf.removeConferenceListener(listener);
+        conf.removeSession(0);
+        assertEquals(1, batches.size());
+        assertEquals(4, replayed.size());
+    }
+
+    /**
+     * Tests that pages and projections match slices of the full arrays, for
+     * both the default lists and array-backed lists.
+     */
+    @Test
+    void testPagedArrays() {
+        Conference arrayConf = new Conference("Array Conference", new ArraySortedList<Session>(),
+                new ArraySortedList<AcceptedItem>());
+        for (Conference c : new Conference[] {conf, arrayConf}) {
+            for (int i = 0; i < 12; i++) {
+                c.addSession(new Session("Session " + (i * 5 % 12), 120));
+                c.addAcceptedItem(new Paper("Author " + (i * 7 % 12), "Title " + i, 15));
+            }
+            for (int i = 0; i < 6; i++) {
+                c.addItemToSession(3, i);
+            }
+
+            String[][] sessions = c.getSessionsAsArray();
+            String[][] items = c.getAcceptedItemsAsArray();
+            String[][] inSession = c.getAcceptedItemsInSessionAsArray(3);
+            for (int offset = 0; offset <= 12; offset += 4) {
+                String[][] page = c.getSessionsAsArray(offset, 5);
+                assertEquals(Math.min(5, 12 - offset), page.length);
+                for (int row = 0; row < page.length; row++) {
+                    assertArrayEquals(sessions[offset + row], page[row]);
+                }
+                page = c.getAcceptedItemsAsArray(offset, 5);
+                assertEquals(Math.min(5, 12 - offset), page.length);
+                for (int row = 0; row < page.length; row++) {
+                    assertArrayEquals(items[offset + row], page[row]);
+                }
+            }
+            assertEquals(0, c.getAcceptedItemsAsArray(3, 0).length);
+
+            String[][] projected = c.getAcceptedItemsAsArray(2, 3, new int[] {4, 2});
+            assertEquals(3, projected.length);
+            assertArrayEquals(new String[] {items[2][4], items[2][2]}, projected[0]);
+            projected = c.getSessionsAsArray(11, 10, new int[] {2});
+            assertArrayEquals(new String[] {sessions[11][2]}, projected[0]);
+            projected = c.getAcceptedItemsInSessionAsArray(3, 4, 10, new int[] {2, 3});
+            assertEquals(2, projected.length);
+            assertArrayEquals(new String[] {inSession[5][2], inSession[5][3]}, projected[1]);
+            assertArrayEquals(inSession[1], c.getAcceptedItemsInSessionAsArray(3, 1, 1)[0]);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> c.getSessionsAsArray(13, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> c.getAcceptedItemsAsArray(-1, 1));
+            assertThrows(IllegalArgumentException.class, () -> c.getAcceptedItemsAsArray(0, -1));
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> c.getAcceptedItemsInSessionAsArray(3, 0, 1, new int[] {4}));
+            assertThrows(IndexOutOfBoundsException.class, () -> c.getSessionsAsArray(0, 1, new int[] {3}));
+        }
+    }
+
+    /**
+     * Tests finding sessions by remaining capacity as items are assigned,
+     * changed, and removed, and as sessions are edited and removed.
+     */
+    @Test
+    void testFindSessionsWithCapacity() {
+        assertTrue(conf.findSessionsWithCapacity(5).isEmpty());
+        assertNull(conf.findBestFitSession(5));
+        assertNull(conf.findWorstFitSession(5));
+
+        Session sessionB = new Session("SessionB", 90);
+        Session sessionC = new Session("SessionC", 60);
+        conf.addSession(session1);
+        conf.addSession(sessionB);
+        conf.addSession(sessionC);
+        conf.addAcceptedItem(paper1);
+        conf.addItemToSession(0, 0);
+
+        // Session1 60, SessionB 90, SessionC 60; Session1 reached 60 last
+        assertEquals(List.of(sessionC, session1, sessionB), conf.findSessionsWithCapacity(60));
+        assertEquals(List.of(sessionB), conf.findSessionsWithCapacity(61));
+        assertTrue(conf.findSessionsWithCapacity(91).isEmpty());
+        assertSame(sessionC, conf.findBestFitSession(45));
+        assertSame(sessionB, conf.findBestFitSession(75));
+        assertSame(sessionB, conf.findWorstFitSession(75));
+        assertNull(conf.findWorstFitSession(100));
+        assertNull(conf.findBestFitSession(100));
+
+        paper1.setDuration(15);
+        assertSame(session1, conf.findWorstFitSession(100));
+        sessionC.setDuration(120);
+        assertEquals(List.of(sessionC), conf.findSessionsWithCapacity(110));
+
+        conf.removeSession(2);
+        assertEquals(List.of(session1), conf.findSessionsWithCapacity(100));
+        sessionC.setDuration(30);
+        assertEquals(List.of(sessionB, session1), conf.findSessionsWithCapacity(30));
+
+        Session renamed = new Session("Renamed", 20);
+        conf.editSession(1, renamed);
+        assertEquals(List.of(renamed, session1), conf.findSessionsWithCapacity(5));
+        conf.removeItemFromSession(conf.getSessionCount() - 1, 0);
+        assertSame(session1, conf.findBestFitSession(120));
+
+        Conference loaded = new Conference("Loaded");
+        Session full = new Session("Full", 30);
+        Session open = new Session("Open", 60);
+        Map<AcceptedItem, Session> items = new LinkedHashMap<AcceptedItem, Session>();
+        items.put(new Paper("Author B", "Title B", 30), full);
+        loaded.addAll(List.of(full, open), items);
+        assertEquals(List.of(open), loaded.findSessionsWithCapacity(5));
+        assertSame(full, loaded.findBestFitSession(0));
+    }
+
+    /**
+     * Tests that a bulk add the lists reject, or that holds a null item,
+     * leaves the conference unchanged.
+     */
+    @Test
+    void testAddAllFailureLeavesConferenceUnchanged() {
+        TreeSortedList<AcceptedItem> rejecting = new TreeSortedList<AcceptedItem>() {
+            @Override
+            public void add(AcceptedItem element) {
+                if ("Bad".equals(element.getTitle())) {
+                    throw new IllegalArgumentException("Cannot add element.");
+                }
+                super.add(element);
+            }
+        };
+        Conference c = new Conference("Failing", new ArraySortedList<Session>(), rejecting);
+        Session loaded = new Session("Loaded", 120);
+        AcceptedItem good = new Paper("Author A", "Good", 30);
+        AcceptedItem bad = new Paper("Author B", "Bad", 30);
+        Map<AcceptedItem, Session> items = new LinkedHashMap<AcceptedItem, Session>();
+        items.put(good, loaded);
+        items.put(bad, null);
+        List<ConferenceEvent> events = new ArrayList<ConferenceEvent>();
+        c.addConferenceListener(events::add);
+        c.setChanged(false);
+
+        assertThrows(IllegalArgumentException.class, () -> c.addAll(List.of(loaded), items));
+        assertEquals(0, c.getSessionCount());
+        assertEquals(0, c.getAcceptedItemCount());
+        assertNull(c.getSessionByName("Loaded"));
+        assertNull(c.findAcceptedItem("Good", "Author A"));
+        assertNull(good.getSession());
+        assertEquals(0, loaded.getItemList().size());
+        assertTrue(c.findSessionsWithCapacity(0).isEmpty());
+        assertFalse(c.isChanged());
+        assertTrue(events.isEmpty());
+
+        Map<AcceptedItem, Session> withNull = new LinkedHashMap<AcceptedItem, Session>();
+        withNull.put(good, loaded);
+        withNull.put(null, null);
+        assertThrows(NullPointerException.class, () -> c.addAll(List.of(loaded), withNull));
+        assertEquals(0, c.getSessionCount());
+        assertNull(c.getSessionByName("Loaded"));
+        assertNull(good.getSession());
+
+        items.remove(bad);
+        c.addAll(List.of(loaded), items);
+        assertEquals(1, c.getSessionCount());
+        assertEquals(1, c.getAcceptedItemCount());
+        assertSame(loaded, good.getSession());
+        assertSame(loaded, c.findBestFitSession(90));
+    }
+
+    /**
+     * Tests that setting a session's time slot marks the conference changed
+     * and sends an edit event only when the slot changes, and that a slot
+     * survives an edit of the session unless the edit gives it a new one.
+     */
+    @Test
+    void testSetSessionTimeSlot() {
+        conf.addSession(session1);
+        conf.addSession(new Session("A Session", 60));
+        List<ConferenceEvent> events = new ArrayList<ConferenceEvent>();
+        conf.addConferenceListener(events::add);
+        conf.setChanged(false);
+
+        conf.setSessionTimeSlot(1, 2);
+        assertEquals(2, conf.getSession(1).getTimeSlot());
+        assertTrue(conf.isChanged());
+        assertEquals(1, events.size());
+        assertEvent(events.get(0), ConferenceEvent.Type.SESSION_EDITED, 1, 1, -1, -1, -1, -1);
+
+        conf.setChanged(false);
+        conf.setSessionTimeSlot(1, 2);
+        assertFalse(conf.isChanged());
+        assertEquals(1, events.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> conf.setSessionTimeSlot(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> conf.setSessionTimeSlot(1, -2));
+        assertEquals(2, conf.getSession(1).getTimeSlot());
+        assertEquals(1, events.size());
+
+        // an edit that does not set a slot keeps the old one
+        assertEquals(1, conf.editSession(1, new Session("Renamed", 90)));
+        assertEquals(2, conf.getSession(1).getTimeSlot());
+        assertEquals(-1, conf.getSession(0).getTimeSlot());
+
+        // an edit that sets a slot replaces it
+        Session moved = new Session("Renamed", 90);
+        moved.setTimeSlot(4);
+        conf.editSession(1, moved);
+        assertEquals(4, conf.getSession(1).getTimeSlot());
+
+        conf.setSessionTimeSlot(1, -1);
+        assertEquals(-1, conf.getSession(1).getTimeSlot());
+    }
+
+    /**
+     * Tests that assigning items through the sessions and items themselves
+     * sends the same events as addItemToSession in one batch, and that
+     * assignments naming something outside the conference, an assigned item,
+     * or too many minutes change nothing.
+     */
+    @Test
+    void testAddItemsToSessions() {
+        Session session2 = new Session("Session2", 30);
+        AcceptedItem paper2 = new Paper("Author B", "Title B", 20);
+        AcceptedItem paper3 = new Paper("Author C", "Title C", 20);
+        conf.addSession(session1);
+        conf.addSession(session2);
+        conf.addAcceptedItem(paper1);
+        conf.addAcceptedItem(paper2);
+        conf.addAcceptedItem(paper3);
+        List<List<ConferenceEvent>> batches = new ArrayList<List<ConferenceEvent>>();
+        conf.addConferenceListener(new ConferenceListener() {
+            @Override
+            public void conferenceChanged(ConferenceEvent event) {
+                batches.add(Arrays.asList(event));
+            }
+
+            @Override
+            public void batchFinished(List<ConferenceEvent> events) {
+                batches.add(events);
+            }
+        });
+        conf.setChanged(false);
+
+        Session[] sessions = {session1, session2};
+        int[] sessionIdxs = {0, 1};
+        // paper3 does not fit in session2 alongside paper2
+        assertThrows(IllegalArgumentException.class, () -> conf.addItemsToSessions(new int[] {1, 1},
+                new Session[] {session2, session2}, new int[] {1, 2}, new AcceptedItem[] {paper2, paper3}));
+        assertThrows(IllegalArgumentException.class, () -> conf.addItemsToSessions(sessionIdxs,
+                new Session[] {session1, new Session("Session2", 30)}, new int[] {0, 1},
+                new AcceptedItem[] {paper1, paper2}));
+        assertThrows(IllegalArgumentException.class, () -> conf.addItemsToSessions(sessionIdxs, sessions,
+                new int[] {0, 1}, new AcceptedItem[] {paper1, new Paper("Author B", "Title B", 20)}));
+        assertThrows(IllegalArgumentException.class, () -> conf.addItemsToSessions(sessionIdxs, sessions,
+                new int[] {0, 0}, new AcceptedItem[] {paper1, paper1}));
+        assertThrows(IllegalArgumentException.class, () -> conf.addItemsToSessions(sessionIdxs, sessions,
+                new int[] {0}, new AcceptedItem[] {paper1}));
+        assertNull(paper1.getSession());
+        assertNull(paper2.getSession());
+        assertEquals(30, session2.getRemainingCapacity());
+        assertFalse(conf.isChanged());
+        assertTrue(batches.isEmpty());
+
+        conf.addItemsToSessions(new int[] {0, 1, 0}, new Session[] {session1, session2, session1},
+                new int[] {0, 1, 2}, new AcceptedItem[] {paper1, paper2, paper3});
+        assertSame(session1, paper1.getSession());
+        assertSame(session2, paper2.getSession());
+        assertSame(session1, paper3.getSession());
+        assertEquals(40, session1.getRemainingCapacity());
+        assertTrue(conf.isChanged());
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).size());
+        assertEvent(batches.get(0).get(0), ConferenceEvent.Type.ITEM_ASSIGNED, 0, 0, 0, 0, -1, 0);
+        assertEvent(batches.get(0).get(1), ConferenceEvent.Type.ITEM_ASSIGNED, 1, 1, 1, 1, -1, 0);
+        assertEvent(batches.get(0).get(2), ConferenceEvent.Type.ITEM_ASSIGNED, 0, 0, 2, 2, -1, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> conf.addItemsToSessions(new int[] {1},
+                new Session[] {session2}, new int[] {0}, new AcceptedItem[] {paper1}));
+        assertSame(session1, paper1.getSession());
+    }
 }
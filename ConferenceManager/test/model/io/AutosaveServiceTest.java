@@ -0,0 +1,215 @@
+package edu.ncsu.csc216.wolf_proceedings.model.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
+import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
+
+/**
+ * JUnit tests for the AutosaveService class.
+ * 
+ * @author Vamsi Gaddipati
+ */
+class AutosaveServiceTest {
+
+    /** The file the snapshots are written to */
+    private File file;
+
+    /** The results reported to the listener, as "saved" or "failed" */
+    private List<String> results;
+
+    /** Released to let the first reported result return */
+    private CountDownLatch release;
+
+    /** The service under test */
+    private AutosaveService service;
+
+    /**
+     * Creates the service with a listener that records each result and holds
+     * the background thread on the first one until released.
+     * 
+     * @throws IOException if the temporary file cannot be created
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        file = File.createTempFile("autosave", ".txt");
+        file.deleteOnExit();
+        results = Collections.synchronizedList(new ArrayList<String>());
+        release = new CountDownLatch(1);
+        service = new AutosaveService(new AutosaveService.SaveListener() {
+            @Override
+            public void saveFinished(File conferenceFile, SaveMetrics metrics) {
+                record("saved");
+            }
+
+            @Override
+            public void saveFailed(File conferenceFile, String message) {
+                record("failed: " + message);
+            }
+        });
+    }
+
+    /**
+     * Stops the service after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    /**
+     * Records a result, waiting for the release on the first one.
+     * 
+     * @param result the result to record
+     */
+    private void record(String result) {
+        results.add(result);
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Tests that a snapshot of a conference is written in the background.
+     * 
+     * @throws Exception if the file cannot be read or the wait is interrupted
+     */
+    @Test
+    void testSave() throws Exception {
+        Conference conf = new Conference("Autosave Conference");
+        conf.addSession(new Session("Morning", 60));
+        byte[] snapshot = conf.snapshot();
+        release.countDown();
+
+        service.save(file, snapshot);
+        assertTrue(service.awaitIdle(5000));
+        assertFalse(service.isSaving());
+        assertEquals(1, results.size());
+        assertEquals("saved", results.get(0));
+        assertArrayEquals(snapshot, Files.readAllBytes(file.toPath()));
+        assertTrue(conf.isChanged());
+
+        assertThrows(IllegalArgumentException.class, () -> service.save(null, snapshot));
+        assertThrows(IllegalArgumentException.class, () -> service.save(file, null));
+    }
+
+    /**
+     * Tests that snapshots queued while a save is in flight are coalesced so
+     * only the newest one is written next.
+     * 
+     * @throws Exception if the file cannot be read or the wait is interrupted
+     */
+    @Test
+    void testSaveCoalesces() throws Exception {
+        service.save(file, bytes("first"));
+        while (results.isEmpty()) {
+            Thread.sleep(1);
+        }
+        assertTrue(service.isSaving());
+        service.save(file, bytes("second"));
+        service.save(file, bytes("third"));
+        service.save(file, bytes("fourth"));
+        assertFalse(service.awaitIdle(10));
+
+        release.countDown();
+        assertTrue(service.awaitIdle(5000));
+        assertEquals(2, results.size());
+        assertEquals("fourth", Files.readString(file.toPath()));
+    }
+
+    /**
+     * Tests that a failed save is reported and does not stop later saves.
+     * 
+     * @throws Exception if the file cannot be read or the wait is interrupted
+     */
+    @Test
+    void testSaveFailed() throws Exception {
+        release.countDown();
+        File invalid = new File("/invalid/path/test.txt");
+        service.save(invalid, bytes("lost"));
+        assertTrue(service.awaitIdle(5000));
+        assertTrue(service.isFailed(invalid));
+        assertFalse(service.isFailed(file));
+        service.save(file, bytes("kept"));
+        assertTrue(service.awaitIdle(5000));
+        assertEquals("failed: Unable to save file.", results.get(0));
+        assertEquals("kept", Files.readString(file.toPath()));
+        assertTrue(service.isFailed(invalid));
+        assertFalse(service.isFailed(file));
+    }
+
+    /**
+     * Tests that a save failing with an exception other than
+     * IllegalArgumentException is reported as a failure and leaves the
+     * service able to save again, and that a later successful write of the
+     * same file clears the failure.
+     * 
+     * @throws Exception if the file cannot be read or the wait is interrupted
+     */
+    @Test
+    void testSaveFailedUnexpectedly() throws Exception {
+        release.countDown();
+        File denied = new File("denied.txt") {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public File getAbsoluteFile() {
+                throw new SecurityException("denied");
+            }
+        };
+        service.save(denied, bytes("lost"));
+        assertTrue(service.awaitIdle(5000));
+        assertFalse(service.isSaving());
+        assertTrue(service.isFailed(denied));
+        assertEquals("failed: Unable to save file.", results.get(0));
+
+        File invalid = new File("bad\0name.txt");
+        service.save(invalid, bytes("lost"));
+        assertTrue(service.awaitIdle(5000));
+        assertTrue(service.isFailed(invalid));
+        assertEquals("failed: Unable to save file.", results.get(1));
+
+        service.save(file, bytes("first"));
+        assertTrue(service.awaitIdle(5000));
+        assertEquals("first", Files.readString(file.toPath()));
+
+        File target = new File(file.getParentFile(), "missing" + System.nanoTime() + "/autosave.txt");
+        service.save(target, bytes("lost"));
+        assertTrue(service.awaitIdle(5000));
+        assertTrue(service.isFailed(target));
+        assertTrue(target.getParentFile().mkdir());
+        target.deleteOnExit();
+        target.getParentFile().deleteOnExit();
+        service.save(target, bytes("kept"));
+        assertTrue(service.awaitIdle(5000));
+        assertFalse(service.isFailed(target));
+        assertEquals("kept", Files.readString(target.toPath()));
+    }
+
+    /**
+     * Returns the UTF-8 bytes of a String.
+     * 
+     * @param text the text to encode
+     * @return the encoded text
+     */
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
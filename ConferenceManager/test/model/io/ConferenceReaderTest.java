@@ -5,11 +5,21 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.AcceptedItem;
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.Paper;
+import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
 
 /**
  * JUnit tests for the ConferenceReader class.
@@ -281,4 +291,268 @@ class ConferenceReaderTest {
         
         assertEquals(0, sessions.length);
     }
+    
+    /**
+     * Tests reading a UTF-8 file with Windows line endings, and that an
+     * empty file cannot be loaded.
+     * 
+     * @throws IOException if the temporary files cannot be written
+     */
+    @Test
+    public void testReadConferenceFileLineEndings() throws IOException {
+        File tempFile = File.createTempFile("testConference", ".txt");
+        tempFile.deleteOnExit();
+        Files.write(tempFile.toPath(), ("Conférence\r\n# Morning,90\r\n* Panel|Saúl|Résumé\r\n"
+                + "# +++\r\n* LightningTalk|Zoë|Naïve").getBytes(StandardCharsets.UTF_8));
+
+        Conference conf = ConferenceReader.readConferenceFile(tempFile);
+        assertEquals("Conférence", conf.getConferenceName());
+        String[][] items = conf.getAcceptedItemsAsArray();
+        assertEquals(2, items.length);
+        assertEquals("Résumé", items[0][2]);
+        assertEquals("Morning", items[0][4]);
+        assertEquals("Naïve", items[1][2]);
+        assertEquals("", items[1][4]);
+
+        File emptyFile = File.createTempFile("emptyConference", ".txt");
+        emptyFile.deleteOnExit();
+        assertThrows(IllegalArgumentException.class, () -> ConferenceReader.readConferenceFile(emptyFile));
+    }
+
+    /**
+     * Tests that reading a memory-mapped file gives the same conference as
+     * reading it line by line, including when lines cross mapping windows.
+     * 
+     * @throws IOException if the temporary file cannot be written
+     */
+    @Test
+    public void testReadConferenceFileMapped() throws IOException {
+        File tempFile = writeMixedConference();
+        for (File file : conferenceFiles(tempFile)) {
+            Conference expected = ConferenceReader.readConferenceFile(file);
+            for (int window : new int[] {3, 17, 1 << 20}) {
+                assertSameConference(expected, ConferenceReader.readConferenceFileMapped(file, window));
+            }
+        }
+        assertEquals(4, ConferenceReader.readConferenceFileMapped(tempFile).getSessionsAsArray().length);
+
+        File emptyFile = File.createTempFile("emptyConference", ".txt");
+        emptyFile.deleteOnExit();
+        assertThrows(IllegalArgumentException.class, () -> ConferenceReader.readConferenceFileMapped(emptyFile));
+        assertThrows(IllegalArgumentException.class, () -> ConferenceReader.readConferenceFileMapped(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> ConferenceReader.readConferenceFileMapped(new File("test-files/missing.txt")));
+    }
+
+    /**
+     * Tests that reading a file in parallel gives the same conference as
+     * reading it line by line, including when the file is split into many
+     * blocks and mapping windows.
+     * 
+     * @throws IOException if the temporary file cannot be written
+     */
+    @Test
+    public void testReadConferenceFileParallel() throws IOException {
+        File tempFile = writeMixedConference();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (File file : conferenceFiles(tempFile)) {
+                Conference expected = ConferenceReader.readConferenceFile(file);
+                assertSameConference(expected, ConferenceReader.readConferenceFileParallel(file));
+                assertSameConference(expected, ConferenceReader.readConferenceFileParallel(file, pool, 5, 1));
+                assertSameConference(expected, ConferenceReader.readConferenceFileParallel(file, pool, 64, 16));
+                assertSameConference(expected, ConferenceReader.readConferenceFileParallel(file, pool, 1 << 20, 40));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        File emptyFile = File.createTempFile("emptyConference", ".txt");
+        emptyFile.deleteOnExit();
+        assertThrows(IllegalArgumentException.class, () -> ConferenceReader.readConferenceFileParallel(emptyFile));
+        assertThrows(IllegalArgumentException.class, () -> ConferenceReader.readConferenceFileParallel(null));
+    }
+
+    /**
+     * Tests that adding the chunks of a file to a conference as they are read
+     * gives the same conference as reading it at once, whether or not the
+     * conference came from createChunkedConference, and that progress is
+     * reported up to the file size.
+     * 
+     * @throws IOException if the temporary file cannot be written
+     */
+    @Test
+    public void testReadConferenceFileChunks() throws IOException {
+        File tempFile = writeMixedConference();
+        for (File file : conferenceFiles(tempFile)) {
+            Conference expected = ConferenceReader.readConferenceFile(file);
+            for (int chunkSize : new int[] {1, 3, 1000}) {
+                boolean chunked = chunkSize != 1000;
+                Conference[] actual = new Conference[1];
+                long[] progress = new long[] {0, -1};
+                ConferenceReader.readConferenceFile(file, new ConferenceReader.ChunkListener() {
+                    @Override
+                    public void nameRead(String conferenceName) {
+                        actual[0] = chunked ? ConferenceReader.createChunkedConference(conferenceName)
+                                : new Conference(conferenceName);
+                    }
+
+                    @Override
+                    public void chunkRead(List<Session> sessions, Map<AcceptedItem, Session> items,
+                            long bytesRead, long totalBytes) {
+                        assertTrue(sessions.size() + items.size() <= chunkSize);
+                        assertTrue(bytesRead >= progress[0] && bytesRead <= totalBytes);
+                        progress[0] = bytesRead;
+                        progress[1] = totalBytes;
+                        actual[0].addAll(sessions, items);
+                    }
+                }, chunkSize);
+                actual[0].setChanged(false);
+                assertSameConference(expected, actual[0]);
+                assertEquals(file.length(), progress[0]);
+                assertEquals(file.length(), progress[1]);
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ConferenceReader.readConferenceFile(tempFile, (s, i, read, total) -> { }, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> ConferenceReader.readConferenceFile(null, (s, i, read, total) -> { }, 10));
+    }
+
+    /**
+     * Tests that adding a chunk to a conference from createChunkedConference
+     * does not get much more expensive as the conference grows. The same
+     * 1,000 items, spread through the list, are added to conferences of 2,000
+     * and 200,000 items loaded in chunks, and the comparisons made are
+     * counted. Merging into a list would compare against every item already
+     * there, making the second chunk about 60 times as costly as the first.
+     */
+    @Test
+    public void testChunkedConferenceCost() {
+        Conference small = ConferenceReader.createChunkedConference("Small");
+        Conference large = ConferenceReader.createChunkedConference("Large");
+        loadEvenPapers(small, 2000);
+        loadEvenPapers(large, 200000);
+
+        long smallCost = chunkCost(small, 2);
+        long largeCost = chunkCost(large, 200);
+        assertTrue(smallCost > 0);
+        assertTrue(largeCost < 2 * smallCost, smallCost + " then " + largeCost);
+        assertEquals(201000, large.getAcceptedItemCount());
+        assertEquals(new CountingPaper(1).getAuthors(), large.getAcceptedItem(1).getAuthors());
+    }
+
+    /**
+     * Adds papers with the first given number of even author numbers to a
+     * conference in chunks of 20,000, as a load would.
+     * 
+     * @param conf the conference
+     * @param count the number of papers to add
+     */
+    private void loadEvenPapers(Conference conf, int count) {
+        Map<AcceptedItem, Session> chunk = new LinkedHashMap<AcceptedItem, Session>();
+        for (int i = 0; i < count; i++) {
+            chunk.put(new CountingPaper(2 * i), null);
+            if (chunk.size() == 20000 || i == count - 1) {
+                conf.addAll(new ArrayList<Session>(), chunk);
+                chunk.clear();
+            }
+        }
+    }
+
+    /**
+     * Adds a chunk of 1,000 papers with odd author numbers to a conference and
+     * returns the number of comparisons made.
+     * 
+     * @param conf the conference
+     * @param stride the distance between the author numbers in the chunk
+     * @return the number of comparisons made while adding the chunk
+     */
+    private long chunkCost(Conference conf, int stride) {
+        Map<AcceptedItem, Session> chunk = new LinkedHashMap<AcceptedItem, Session>();
+        for (int j = 0; j < 1000; j++) {
+            chunk.put(new CountingPaper(2 * j * stride + 1), null);
+        }
+        CountingPaper.comparisons = 0;
+        conf.addAll(new ArrayList<Session>(), chunk);
+        return CountingPaper.comparisons;
+    }
+
+    /**
+     * A paper that counts how often it is compared.
+     */
+    private static class CountingPaper extends Paper {
+
+        /** The number of comparisons made by any counting paper */
+        private static long comparisons;
+
+        /**
+         * Constructs a paper whose authors are the given number.
+         * 
+         * @param number the author number
+         */
+        CountingPaper(int number) {
+            super(String.format("Author %07d", number), "Title", 20);
+        }
+
+        /**
+         * Counts the comparison and compares the papers.
+         * 
+         * @param other the item to compare to
+         * @return the result of AcceptedItem.compareTo
+         */
+        @Override
+        public int compareTo(AcceptedItem other) {
+            comparisons++;
+            return super.compareTo(other);
+        }
+    }
+
+    /**
+     * Writes a temporary conference file with mixed line endings, spacing, and
+     * invalid lines.
+     * 
+     * @return the temporary file
+     * @throws IOException if the file cannot be written
+     */
+    private File writeMixedConference() throws IOException {
+        File tempFile = File.createTempFile("testConference", ".txt");
+        tempFile.deleteOnExit();
+        Files.write(tempFile.toPath(), ("Conférence\r\n# Morning,90,,\r\n* PAPER|Saúl|Résumé|+20\r"
+                + "*paper| A |B|x\n# ,60\n* Panel|C|D\n#\tAfternoon , 60\n* lightning talk|Zoë|Naïve||\n"
+                + "*Panel|E|F|\n  # +++\n* LightningTalk|G|H\n#Evening,30\r\n*Paper|I|J|25\r\n\r\n"
+                + "*Paper|K#|L\n#Late,20\n*Panel|M|N").getBytes(StandardCharsets.UTF_8));
+        return tempFile;
+    }
+
+    /**
+     * Returns the conference test files along with the given temporary file
+     * and the file created in setUp.
+     * 
+     * @param tempFile an extra file to include
+     * @return the files to read
+     */
+    private File[] conferenceFiles(File tempFile) {
+        File[] files = new File("test-files").listFiles((dir, name) -> name.startsWith("conference"));
+        File[] all = new File[files.length + 2];
+        System.arraycopy(files, 0, all, 0, files.length);
+        all[files.length] = tempFile;
+        all[files.length + 1] = testFile;
+        return all;
+    }
+
+    /**
+     * Asserts that two conferences have the same name, sessions, and items, and
+     * that the second one is unchanged.
+     * 
+     * @param expected the expected conference
+     * @param actual the conference to check
+     */
+    private void assertSameConference(Conference expected, Conference actual) {
+        assertEquals(expected.getConferenceName(), actual.getConferenceName());
+        assertArrayEquals(expected.getSessionsAsArray(), actual.getSessionsAsArray());
+        assertArrayEquals(expected.getAcceptedItemsAsArray(), actual.getAcceptedItemsAsArray());
+        assertFalse(actual.isChanged());
+    }
 }
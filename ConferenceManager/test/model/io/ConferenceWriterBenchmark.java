@@ -0,0 +1,117 @@
+package edu.ncsu.csc216.wolf_proceedings.model.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.AcceptedItem;
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.Paper;
+import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
+import edu.ncsu.csc216.wolf_proceedings.model.util.ArraySortedList;
+import edu.ncsu.csc216.wolf_proceedings.model.util.ISortedList;
+
+/**
+ * Measures how fast ConferenceWriter writes conferences of 10k, 100k, and 1M
+ * accepted items with several buffer sizes, through a FileChannel, and with
+ * the session blocks rendered in parallel on the common pool. Eight of every
+ * nine items are placed in full sessions and the rest are left unassigned.
+ * Each size is written a few times and the best time is printed. This is not
+ * a unit test; run its main method directly.
+ *
+ * @author Vamsi Gaddipati
+ */
+public class ConferenceWriterBenchmark {
+
+    /** The numbers of accepted items to measure */
+    private static final int[] SIZES = {10000, 100000, 1000000};
+
+    /** The buffer sizes to measure */
+    private static final int[] BUFFER_SIZES = {512, 8192, ConferenceWriter.DEFAULT_BUFFER_SIZE, 1 << 20};
+
+    /** The number of times each case is written */
+    private static final int RUNS = 3;
+
+    /**
+     * Runs the benchmark and prints one line per size and buffer size.
+     *
+     * @param args not used
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static void main(String[] args) throws IOException {
+        File file = File.createTempFile("writerBenchmark", ".txt");
+        file.deleteOnExit();
+        System.out.printf("%8s %8s %10s %8s %10s%n", "items", "mode", "ms", "MB", "MB/s");
+        for (int n : SIZES) {
+            ISortedList<Session> sessions = new ArraySortedList<Session>();
+            ISortedList<AcceptedItem> proceedings = new ArraySortedList<AcceptedItem>();
+            build(n, sessions, proceedings);
+            for (int bufferSize : BUFFER_SIZES) {
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    long start = System.nanoTime();
+                    ConferenceWriter.writeConferenceFile(file, "Benchmark Conference", sessions, proceedings,
+                            bufferSize);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                print(n, Integer.toString(bufferSize), best, file);
+            }
+
+            long best = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                ConferenceWriter.writeConferenceFileChannel(file, "Benchmark Conference", sessions, proceedings);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            print(n, "channel", best, file);
+
+            best = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                ConferenceWriter.writeConferenceFileParallel(file, "Benchmark Conference", sessions, proceedings);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            print(n, "parallel", best, file);
+        }
+    }
+
+    /**
+     * Prints the time and throughput of one case.
+     *
+     * @param n the number of accepted items
+     * @param mode the buffer size or name of the writer
+     * @param nanos the best time in nanoseconds
+     * @param file the file that was written
+     */
+    private static void print(int n, String mode, long nanos, File file) {
+        double megabytes = file.length() / 1e6;
+        System.out.printf("%8d %8s %10.1f %8.1f %10.1f%n", n, mode, nanos / 1e6, megabytes,
+                megabytes / (nanos / 1e9));
+    }
+
+    /**
+     * Fills the lists with the given number of papers, most of them in sessions.
+     *
+     * @param n the number of accepted items to create
+     * @param sessions the list to add sessions to
+     * @param proceedings the list to add accepted items to
+     */
+    private static void build(int n, ISortedList<Session> sessions, ISortedList<AcceptedItem> proceedings) {
+        List<Session> newSessions = new ArrayList<Session>();
+        List<AcceptedItem> newItems = new ArrayList<AcceptedItem>();
+        Session session = null;
+        for (int i = 0; i < n; i++) {
+            AcceptedItem item = new Paper(String.format("Author %07d", i), "Title of paper number " + i, 15);
+            if (i % 9 != 8) {
+                if (session == null || session.getRemainingCapacity() < item.getDuration()) {
+                    session = new Session(String.format("Session %07d", newSessions.size()), 120);
+                    newSessions.add(session);
+                }
+                session.addAcceptedItem(item);
+            }
+            newItems.add(item);
+        }
+        sessions.addAll(newSessions);
+        proceedings.addAll(newItems);
+    }
+}
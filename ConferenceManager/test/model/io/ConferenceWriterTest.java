@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -141,4 +143,139 @@ class ConferenceWriterTest {
                 () -> ConferenceWriter.writeConferenceFile(new File(invalidPath), conf.getConferenceName(), sessions, proceedings));
         assertEquals("Unable to save file.", e.getMessage());
     }
+
+    /**
+     * Tests that the buffer size does not change the file written, that the
+     * file is UTF-8, and that an invalid buffer size is rejected.
+     * 
+     * @throws IOException if reading the file fails
+     */
+    @Test
+    void testWriteConferenceFileBufferSize() throws IOException {
+        ISortedList<Session> sessions = new SortedList<>();
+        sessions.add(session1);
+        ISortedList<AcceptedItem> proceedings = new SortedList<>();
+        proceedings.add(lt);
+        proceedings.add(new LightningTalk("Zoë Saúl", "Naïve Résumés"));
+
+        File f = new File(TEST_FILE);
+        ConferenceWriter.writeConferenceFile(f, "Conférence", sessions, proceedings);
+        byte[] expected = Files.readAllBytes(f.toPath());
+        String nl = System.lineSeparator();
+        assertEquals("Conférence" + nl + "# Morning Session,90" + nl + "* Paper|Bob Brown|Cybersecurity Trends|15" + nl
+                + "* Panel|Eve Adams|Future of Education" + nl + "# +++" + nl
+                + "* LightningTalk|Alice Johnson|Future of AI" + nl + "* LightningTalk|Zoë Saúl|Naïve Résumés" + nl,
+                new String(expected, StandardCharsets.UTF_8));
+
+        for (int bufferSize : new int[] {1, 7, 8192}) {
+            ConferenceWriter.writeConferenceFile(f, "Conférence", sessions, proceedings, bufferSize);
+            assertArrayEquals(expected, Files.readAllBytes(f.toPath()));
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> ConferenceWriter.writeConferenceFile(f, "Conférence", sessions, proceedings, 0));
+    }
+
+    /**
+     * Tests that writing through a FileChannel, with or without rendering the
+     * sessions in parallel, gives exactly the same bytes as the buffered writer,
+     * including when lines span many small buffers and when a character cannot
+     * be encoded.
+     * 
+     * @throws IOException if reading the file fails
+     */
+    @Test
+    void testWriteConferenceFileChannel() throws IOException {
+        ISortedList<Session> sessions = new SortedList<>();
+        ISortedList<AcceptedItem> proceedings = new SortedList<>();
+        sessions.add(session1);
+        proceedings.add(lt);
+        proceedings.add(new Panel("Lone \uD83D surrogate", "Replaced"));
+        for (int i = 0; i < 300; i++) {
+            Session session = new Session("Séance " + i, 60);
+            session.addAcceptedItem(new Paper("Zoë " + i, "Naïve Résumés \uD83D\uDE00 " + i, 30));
+            session.addAcceptedItem(new LightningTalk("Saúl " + i, "Talk " + i));
+            sessions.add(session);
+            proceedings.add(new Panel("Panelist " + i, "Unassigned panel " + i));
+        }
+
+        File f = new File(TEST_FILE);
+        ConferenceWriter.writeConferenceFile(f, "Conférence", sessions, proceedings);
+        byte[] expected = Files.readAllBytes(f.toPath());
+
+        ConferenceWriter.writeConferenceFileChannel(f, "Conférence", sessions, proceedings);
+        assertArrayEquals(expected, Files.readAllBytes(f.toPath()));
+        ConferenceWriter.writeConferenceFileChannel(f, "Conférence", sessions, proceedings, new BufferPool(7, 2));
+        assertArrayEquals(expected, Files.readAllBytes(f.toPath()));
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            ConferenceWriter.writeConferenceFileParallel(f, "Conférence", sessions, proceedings);
+            assertArrayEquals(expected, Files.readAllBytes(f.toPath()));
+            for (int sessionsPerTask : new int[] {1, 7, 1000}) {
+                ConferenceWriter.writeConferenceFileParallel(f, "Conférence", sessions, proceedings, pool,
+                        sessionsPerTask);
+                assertArrayEquals(expected, Files.readAllBytes(f.toPath()));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        ConferenceWriter.writeConferenceFileParallel(f, "Test Conference", new SortedList<>(), new SortedList<>());
+        String nl = System.lineSeparator();
+        assertEquals("Test Conference" + nl + "# +++" + nl, Files.readString(f.toPath()));
+        ConferenceWriter.writeConferenceFileChannel(f, "Test Conference", new SortedList<>(), new SortedList<>());
+        assertEquals("Test Conference" + nl + "# +++" + nl, Files.readString(f.toPath()));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ConferenceWriter.writeConferenceFileChannel(new File("/invalid/path/test.txt"),
+                        "Conférence", sessions, proceedings));
+        assertEquals("Unable to save file.", e.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> ConferenceWriter.writeConferenceFileParallel(new File("/invalid/path/test.txt"),
+                        "Conférence", sessions, proceedings));
+    }
+
+    /**
+     * Tests that an atomic save replaces the file with the same bytes as the
+     * buffered writer, reports its metrics, and leaves no temporary file behind,
+     * and that a failed save leaves the target as it was.
+     * 
+     * @throws IOException if the temporary directory cannot be used
+     */
+    @Test
+    void testWriteConferenceFileAtomic() throws IOException {
+        ISortedList<Session> sessions = new SortedList<>();
+        sessions.add(session1);
+        ISortedList<AcceptedItem> proceedings = new SortedList<>();
+        proceedings.add(lt);
+
+        File dir = Files.createTempDirectory("atomicSave").toFile();
+        File expected = new File(dir, "expected.txt");
+        File target = new File(dir, "conference.txt");
+        ConferenceWriter.writeConferenceFile(expected, "Conférence", sessions, proceedings);
+        Files.writeString(target.toPath(), "old contents");
+
+        SaveMetrics metrics = ConferenceWriter.writeConferenceFileAtomic(target, "Conférence", sessions, proceedings);
+        assertArrayEquals(Files.readAllBytes(expected.toPath()), Files.readAllBytes(target.toPath()));
+        assertEquals(target.length(), metrics.getBytes());
+        assertTrue(metrics.getWriteNanos() >= 0 && metrics.getFsyncNanos() >= 0 && metrics.getMoveNanos() >= 0);
+        assertEquals(metrics.getWriteNanos() + metrics.getFsyncNanos() + metrics.getMoveNanos(),
+                metrics.getTotalNanos());
+        assertEquals(2, dir.list().length);
+
+        File blocked = new File(dir, "blocked");
+        assertTrue(new File(blocked, "inside.txt").mkdirs());
+        assertThrows(IllegalArgumentException.class,
+                () -> ConferenceWriter.writeConferenceFileAtomic(blocked, "Conférence", sessions, proceedings));
+        assertTrue(blocked.isDirectory());
+        assertEquals(3, dir.list().length);
+        assertThrows(IllegalArgumentException.class, () -> ConferenceWriter.writeConferenceFileAtomic(
+                new File("/invalid/path/test.txt"), "Conférence", sessions, proceedings));
+
+        new File(blocked, "inside.txt").delete();
+        blocked.delete();
+        expected.delete();
+        target.delete();
+        dir.delete();
+    }
 }
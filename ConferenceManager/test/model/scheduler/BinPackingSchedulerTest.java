@@ -0,0 +1,237 @@
+package edu.ncsu.csc216.wolf_proceedings.model.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
+import edu.ncsu.csc216.wolf_proceedings.model.conference.ConferenceEvent;
+import edu.ncsu.csc216.wolf_proceedings.model.conference.ConferenceListener;
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.Paper;
+import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
+
+/**
+ * Tests BinPackingScheduler and the schedules it plans.
+ *
+ * @author Vamsi Gaddipati
+ */
+public class BinPackingSchedulerTest {
+
+    /** The conference being scheduled */
+    private Conference conf;
+
+    /** A session with 60 of its 80 minutes free */
+    private Session alpha;
+
+    /** An empty 50 minute session */
+    private Session beta;
+
+    /**
+     * Creates a conference with two sessions, three unassigned papers of 15,
+     * 40, and 50 minutes, and one 20 minute paper already in a session.
+     */
+    @BeforeEach
+    void setUp() {
+        conf = new Conference("Scheduling");
+        alpha = new Session("Alpha", 80);
+        beta = new Session("Beta", 50);
+        conf.addSession(alpha);
+        conf.addSession(beta);
+        conf.addAcceptedItem(new Paper("Author 1", "Title 1", 15));
+        conf.addAcceptedItem(new Paper("Author 2", "Title 2", 40));
+        conf.addAcceptedItem(new Paper("Author 3", "Title 3", 50));
+        conf.addAcceptedItem(new Paper("Author 4", "Title 4", 20));
+        conf.addItemToSession(0, 3);
+    }
+
+    /**
+     * Tests that first fit decreasing fills the first session that has room
+     * and reports what it could not place.
+     */
+    @Test
+    void testFirstFitDecreasing() {
+        Schedule schedule = BinPackingScheduler.plan(conf, BinPackingScheduler.Strategy.FIRST_FIT_DECREASING);
+        assertEquals(2, schedule.getAssignmentCount());
+        assertEquals(1, schedule.getItemIndex(0));
+        assertEquals(1, schedule.getSessionIndex(0));
+        assertEquals(2, schedule.getItemIndex(1));
+        assertEquals(0, schedule.getSessionIndex(1));
+        assertEquals(1, schedule.getUnplacedCount());
+        assertEquals(15, schedule.getUnplacedMinutes());
+        assertEquals(90, schedule.getPlacedMinutes());
+        assertEquals(130, schedule.getTotalCapacity());
+        assertEquals(110, schedule.getUsedMinutes());
+        assertEquals(20, schedule.getWastedMinutes());
+        assertEquals(110.0 / 130, schedule.getUtilization(), 1e-9);
+
+        // planning does not change the conference
+        assertFalse(schedule.isApplied());
+        assertEquals(60, alpha.getRemainingCapacity());
+        assertEquals(50, beta.getRemainingCapacity());
+    }
+
+    /**
+     * Tests that best fit decreasing fills the tightest session that has room
+     * and that applying the schedule assigns the items in one batch.
+     */
+    @Test
+    void testBestFitDecreasing() {
+        List<ConferenceEvent> events = new ArrayList<ConferenceEvent>();
+        List<ConferenceEvent> single = new ArrayList<ConferenceEvent>();
+        conf.addConferenceListener(new ConferenceListener() {
+            @Override
+            public void conferenceChanged(ConferenceEvent event) {
+                single.add(event);
+            }
+
+            @Override
+            public void batchFinished(List<ConferenceEvent> batch) {
+                events.addAll(batch);
+            }
+        });
+
+        Schedule schedule = BinPackingScheduler.schedule(conf, BinPackingScheduler.Strategy.BEST_FIT_DECREASING);
+        assertTrue(schedule.isApplied());
+        assertEquals(3, schedule.getAssignmentCount());
+        assertEquals(0, schedule.getUnplacedCount());
+        assertEquals(125, schedule.getUsedMinutes());
+        assertEquals(5, schedule.getWastedMinutes());
+
+        assertTrue(single.isEmpty());
+        assertEquals(3, events.size());
+        for (ConferenceEvent event : events) {
+            assertEquals(ConferenceEvent.Type.ITEM_ASSIGNED, event.getType());
+        }
+        assertEquals(5, alpha.getRemainingCapacity());
+        assertEquals(0, beta.getRemainingCapacity());
+        assertEquals("Title 4", alpha.getItemList().get(0).getTitle());
+        assertEquals("Title 1", alpha.getItemList().get(1).getTitle());
+        assertEquals("Title 2", alpha.getItemList().get(2).getTitle());
+        assertEquals("Title 3", beta.getItemList().get(0).getTitle());
+
+        assertThrows(IllegalStateException.class, () -> schedule.apply());
+        assertEquals(0, BinPackingScheduler.plan(conf, BinPackingScheduler.Strategy.BEST_FIT_DECREASING)
+                .getAssignmentCount());
+    }
+
+    /**
+     * Tests that a schedule is not applied, and the conference is left as it
+     * is, if the conference changed after the schedule was planned, and that
+     * a new plan can then be applied.
+     */
+    @Test
+    void testApplyAfterConferenceChanged() {
+        List<ConferenceEvent> events = new ArrayList<ConferenceEvent>();
+        conf.addConferenceListener(events::add);
+
+        // an item added ahead of the planned ones moves them to other indexes
+        Schedule shifted = BinPackingScheduler.plan(conf, BinPackingScheduler.Strategy.BEST_FIT_DECREASING);
+        conf.addAcceptedItem(new Paper("Author 0", "Title 0", 5));
+        assertOutOfDate(shifted, events);
+
+        // a planned item assigned by hand
+        Schedule assigned = BinPackingScheduler.plan(conf, BinPackingScheduler.Strategy.BEST_FIT_DECREASING);
+        conf.addItemToSession(1, conf.indexOfAcceptedItem(conf.findAcceptedItem("Title 2", "Author 2")));
+        assertOutOfDate(assigned, events);
+
+        // a session made too short for the items planned for it
+        Schedule shortened = BinPackingScheduler.plan(conf, BinPackingScheduler.Strategy.BEST_FIT_DECREASING);
+        alpha.setDuration(30);
+        assertOutOfDate(shortened, events);
+
+        // a session added ahead of the planned ones
+        Schedule renumbered = BinPackingScheduler.plan(conf, BinPackingScheduler.Strategy.BEST_FIT_DECREASING);
+        conf.addSession(new Session("Aardvark", 10));
+        assertOutOfDate(renumbered, events);
+
+        Schedule schedule = BinPackingScheduler.plan(conf, BinPackingScheduler.Strategy.BEST_FIT_DECREASING);
+        schedule.apply();
+        assertTrue(schedule.isApplied());
+        assertEquals(schedule.getAssignmentCount(), events.size());
+        assertEquals(0, BinPackingScheduler.plan(conf, BinPackingScheduler.Strategy.BEST_FIT_DECREASING)
+                .getAssignmentCount());
+    }
+
+    /**
+     * Asserts that applying a schedule fails without changing the conference
+     * or telling its listeners, and that the schedule is not marked applied.
+     *
+     * @param schedule the out of date schedule
+     * @param events the events the conference's listener has received, which
+     *        are cleared
+     */
+    private void assertOutOfDate(Schedule schedule, List<ConferenceEvent> events) {
+        assertTrue(schedule.getAssignmentCount() > 0);
+        events.clear();
+        conf.setChanged(false);
+        String[][] before = conf.getAcceptedItemsAsArray();
+        int alphaRemaining = alpha.getRemainingCapacity();
+        int betaRemaining = beta.getRemainingCapacity();
+
+        assertThrows(IllegalStateException.class, () -> schedule.apply());
+        assertFalse(schedule.isApplied());
+        assertArrayEquals(before, conf.getAcceptedItemsAsArray());
+        assertEquals(alphaRemaining, alpha.getRemainingCapacity());
+        assertEquals(betaRemaining, beta.getRemainingCapacity());
+        assertFalse(conf.isChanged());
+        assertTrue(events.isEmpty());
+    }
+
+    /**
+     * Tests planning with nothing to place, no sessions, and invalid arguments.
+     */
+    @Test
+    void testEdgeCases() {
+        Conference empty = new Conference("Empty");
+        empty.addAcceptedItem(new Paper("Author", "Title", 30));
+        for (BinPackingScheduler.Strategy strategy : BinPackingScheduler.Strategy.values()) {
+            Schedule schedule = BinPackingScheduler.plan(empty, strategy);
+            assertEquals(0, schedule.getAssignmentCount());
+            assertEquals(1, schedule.getUnplacedCount());
+            assertEquals(0, schedule.getUtilization(), 0);
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> BinPackingScheduler.plan(null, BinPackingScheduler.Strategy.FIRST_FIT_DECREASING));
+        assertThrows(IllegalArgumentException.class, () -> BinPackingScheduler.plan(conf, null));
+    }
+
+    /**
+     * Tests that both strategies respect every session's capacity on a
+     * random conference and account for every unassigned item.
+     */
+    @Test
+    void testRandomConference() {
+        for (BinPackingScheduler.Strategy strategy : BinPackingScheduler.Strategy.values()) {
+            Random random = new Random(42);
+            Conference big = new Conference("Big");
+            for (int s = 0; s < 40; s++) {
+                big.addSession(new Session(String.format("Session %02d", s), 5 + random.nextInt(116)));
+            }
+            int[] durations = new int[500];
+            long total = 0;
+            for (int i = 0; i < durations.length; i++) {
+                durations[i] = 5 + random.nextInt(116);
+                total += durations[i];
+                big.addAcceptedItem(new Paper(String.format("Author %03d", i), "Title", durations[i]));
+            }
+
+            Schedule schedule = BinPackingScheduler.schedule(big, strategy);
+            assertEquals(durations.length, schedule.getAssignmentCount() + schedule.getUnplacedCount());
+            assertEquals(total, schedule.getPlacedMinutes() + schedule.getUnplacedMinutes());
+            long used = 0;
+            for (int s = 0; s < big.getSessionCount(); s++) {
+                assertTrue(big.getSession(s).getRemainingCapacity() >= 0);
+                used += big.getSession(s).getUsedCapacity();
+            }
+            assertEquals(schedule.getUsedMinutes(), used);
+            for (int i = 1; i < schedule.getAssignmentCount(); i++) {
+                assertTrue(schedule.getItemIndex(i - 1) < schedule.getItemIndex(i));
+            }
+        }
+    }
+}
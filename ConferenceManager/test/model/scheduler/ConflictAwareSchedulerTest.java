@@ -0,0 +1,219 @@
+package edu.ncsu.csc216.wolf_proceedings.model.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
+import edu.ncsu.csc216.wolf_proceedings.model.conference.ConferenceEvent;
+import edu.ncsu.csc216.wolf_proceedings.model.conference.ConferenceListener;
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.Paper;
+import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
+
+/**
+ * Tests ConflictAwareScheduler.
+ *
+ * @author Vamsi Gaddipati
+ */
+public class ConflictAwareSchedulerTest {
+
+    /**
+     * Tests that sessions sharing an author are put in different time slots,
+     * with author names matched without regard to spaces or case, and that
+     * the slots are set as one batch of edits that marks the conference
+     * changed.
+     */
+    @Test
+    void testAssignTimeSlots() {
+        Conference conf = new Conference("Slots");
+        String[] authors = {"Ann Lee; Bo Chen", "bo chen ", "Cy Dee", "ANN LEE;Ed Fox"};
+        for (int s = 0; s < authors.length; s++) {
+            conf.addSession(new Session("Session " + s, 60));
+            conf.addAcceptedItem(new Paper(authors[s], "Title " + s, 30));
+        }
+        for (int s = 0; s < authors.length; s++) {
+            conf.addItemToSession(s, conf.indexOfAcceptedItem(conf.findAcceptedItem("Title " + s, authors[s])));
+        }
+
+        List<List<ConferenceEvent>> batches = new ArrayList<List<ConferenceEvent>>();
+        conf.addConferenceListener(new ConferenceListener() {
+            @Override
+            public void conferenceChanged(ConferenceEvent event) {
+                batches.add(Arrays.asList(event));
+            }
+
+            @Override
+            public void batchFinished(List<ConferenceEvent> events) {
+                batches.add(events);
+            }
+        });
+        conf.setChanged(false);
+
+        assertEquals(2, ConflictAwareScheduler.assignTimeSlots(conf, 2));
+        assertEquals(0, ConflictAwareScheduler.countConflicts(conf));
+        assertTrue(conf.isChanged());
+        assertEquals(1, batches.size());
+        assertEquals(authors.length, batches.get(0).size());
+        for (ConferenceEvent event : batches.get(0)) {
+            assertEquals(ConferenceEvent.Type.SESSION_EDITED, event.getType());
+            assertEquals(event.getOldSessionIndex(), event.getSessionIndex());
+        }
+
+        // placing the sessions in the same slots again changes nothing
+        conf.setChanged(false);
+        assertEquals(2, ConflictAwareScheduler.assignTimeSlots(conf, 2));
+        assertFalse(conf.isChanged());
+        assertEquals(1, batches.size());
+        int session0 = conf.getSession(0).getTimeSlot();
+        assertNotEquals(session0, conf.getSession(1).getTimeSlot());
+        assertNotEquals(session0, conf.getSession(3).getTimeSlot());
+        assertEquals(conf.getSession(1).getTimeSlot(), conf.getSession(3).getTimeSlot());
+
+        assertEquals(4, ConflictAwareScheduler.assignTimeSlots(conf, 1));
+        assertEquals(0, ConflictAwareScheduler.countConflicts(conf));
+
+        conf.setSessionTimeSlot(1, 0);
+        conf.setSessionTimeSlot(0, 0);
+        assertEquals(1, ConflictAwareScheduler.countConflicts(conf));
+
+        assertThrows(IllegalArgumentException.class, () -> ConflictAwareScheduler.assignTimeSlots(conf, 0));
+        assertThrows(IllegalArgumentException.class, () -> ConflictAwareScheduler.assignTimeSlots(null, 1));
+    }
+
+    /**
+     * Tests that items are kept out of sessions running at the same time as a
+     * session with one of their authors.
+     */
+    @Test
+    void testPlanAvoidsConflicts() {
+        Conference conf = new Conference("Conflicts");
+        Session alpha = new Session("Alpha", 60);
+        Session beta = new Session("Beta", 60);
+        alpha.setTimeSlot(0);
+        beta.setTimeSlot(0);
+        conf.addSession(alpha);
+        conf.addSession(beta);
+        conf.addAcceptedItem(new Paper("Ann Lee", "Intro", 45));
+        conf.addAcceptedItem(new Paper("Bo Chen", "Y", 10));
+        conf.addAcceptedItem(new Paper("Zed Ray", "W", 40));
+        conf.addAcceptedItem(new Paper("Zed Ray; ann lee", "X", 30));
+        conf.addItemToSession(0, 0);
+
+        // W goes to Beta, which then cannot take X because Alpha has Ann Lee at the same time
+        Schedule schedule = ConflictAwareScheduler.plan(conf);
+        assertEquals(2, schedule.getAssignmentCount());
+        assertEquals(1, schedule.getItemIndex(0));
+        assertEquals(0, schedule.getSessionIndex(0));
+        assertEquals(2, schedule.getItemIndex(1));
+        assertEquals(1, schedule.getSessionIndex(1));
+        assertEquals(1, schedule.getUnplacedCount());
+        assertEquals(30, schedule.getUnplacedMinutes());
+
+        // a session with no time slot runs at no one else's time
+        conf.addSession(new Session("Gamma", 60));
+        schedule = ConflictAwareScheduler.schedule(conf);
+        assertEquals(0, schedule.getUnplacedCount());
+        assertSame(conf.getSessionByName("Gamma"), conf.getAcceptedItem(3).getSession());
+        assertEquals(0, ConflictAwareScheduler.countConflicts(conf));
+        assertThrows(IllegalArgumentException.class, () -> ConflictAwareScheduler.plan(null));
+    }
+
+    /**
+     * Tests that a planned schedule is refused once a session changes its
+     * time slot or authors, so applying it cannot create a conflict.
+     */
+    @Test
+    void testApplyAfterSlotsOrAuthorsChanged() {
+        Conference conf = new Conference("Stale");
+        Session alpha = new Session("Alpha", 60);
+        Session beta = new Session("Beta", 60);
+        Session gamma = new Session("Gamma", 60);
+        conf.addSession(alpha);
+        conf.addSession(beta);
+        conf.addSession(gamma);
+        conf.setSessionTimeSlot(0, 0);
+        conf.setSessionTimeSlot(1, 0);
+        conf.setSessionTimeSlot(2, 1);
+        conf.addAcceptedItem(new Paper("Ann Lee", "Intro", 45));
+        conf.addAcceptedItem(new Paper("Ann Lee", "More", 20));
+        conf.addAcceptedItem(new Paper("Bo Chen", "Other", 20));
+        conf.addItemToSession(0, 0);
+
+        // More goes to Gamma, away from Alpha's slot until Alpha moves there
+        Schedule moved = ConflictAwareScheduler.plan(conf);
+        assertEquals(2, moved.getAssignmentCount());
+        assertEquals(2, moved.getSessionIndex(0));
+        conf.setSessionTimeSlot(0, 1);
+        assertThrows(IllegalStateException.class, () -> moved.apply());
+        assertFalse(moved.isApplied());
+        assertNull(conf.getAcceptedItem(1).getSession());
+
+        // More goes to Beta, then Intro moves to Gamma in the same slot
+        conf.setSessionTimeSlot(0, 0);
+        conf.setSessionTimeSlot(1, 1);
+        Schedule joined = ConflictAwareScheduler.plan(conf);
+        assertEquals(1, joined.getSessionIndex(0));
+        conf.removeItemFromSession(0, 0);
+        conf.addItemToSession(2, 0);
+        assertThrows(IllegalStateException.class, () -> joined.apply());
+        assertFalse(joined.isApplied());
+        assertNull(conf.getAcceptedItem(1).getSession());
+
+        // planned again, More goes to Alpha, away from Intro
+        Schedule schedule = ConflictAwareScheduler.plan(conf);
+        schedule.apply();
+        assertTrue(schedule.isApplied());
+        assertSame(alpha, conf.getAcceptedItem(1).getSession());
+        assertSame(gamma, conf.getAcceptedItem(0).getSession());
+        assertEquals(0, ConflictAwareScheduler.countConflicts(conf));
+    }
+
+    /**
+     * Tests that slotting and then scheduling a random conference leaves no
+     * conflicts and respects every session's capacity.
+     */
+    @Test
+    void testRandomConference() {
+        Random random = new Random(11);
+        Conference conf = new Conference("Random");
+        for (int s = 0; s < 30; s++) {
+            conf.addSession(new Session(String.format("Session %02d", s), 60 + random.nextInt(61)));
+        }
+        for (int i = 0; i < 300; i++) {
+            StringBuilder authors = new StringBuilder(String.format("Author %03d", i));
+            for (int a = random.nextInt(3); a > 0; a--) {
+                authors.append("; Shared ").append(random.nextInt(40));
+            }
+            conf.addAcceptedItem(new Paper(authors.toString(), "Title", 5 + random.nextInt(40)));
+        }
+        for (int i = 0; i < 60; i++) {
+            int s = random.nextInt(conf.getSessionCount());
+            if (conf.getSession(s).getRemainingCapacity() >= conf.getAcceptedItem(i).getDuration()) {
+                conf.addItemToSession(s, i);
+            }
+        }
+
+        int slots = ConflictAwareScheduler.assignTimeSlots(conf, 5);
+        assertTrue(slots >= 6);
+        int[] perSlot = new int[slots];
+        for (int s = 0; s < conf.getSessionCount(); s++) {
+            perSlot[conf.getSession(s).getTimeSlot()]++;
+        }
+        for (int count : perSlot) {
+            assertTrue(count <= 5);
+        }
+        assertEquals(0, ConflictAwareScheduler.countConflicts(conf));
+
+        Schedule schedule = ConflictAwareScheduler.schedule(conf);
+        assertTrue(schedule.getAssignmentCount() > 0);
+        assertEquals(0, ConflictAwareScheduler.countConflicts(conf));
+        for (int s = 0; s < conf.getSessionCount(); s++) {
+            assertTrue(conf.getSession(s).getRemainingCapacity() >= 0);
+        }
+    }
+}
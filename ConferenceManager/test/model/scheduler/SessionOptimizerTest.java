@@ -0,0 +1,304 @@
+package edu.ncsu.csc216.wolf_proceedings.model.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_proceedings.model.conference.Conference;
+import edu.ncsu.csc216.wolf_proceedings.model.proceedings.Paper;
+import edu.ncsu.csc216.wolf_proceedings.model.session.Session;
+
+/**
+ * Tests SessionOptimizer.
+ *
+ * @author Vamsi Gaddipati
+ */
+public class SessionOptimizerTest {
+
+    /**
+     * Tests that the optimizer beats best fit decreasing where it leaves a
+     * gap, and that the schedule is written back to the conference.
+     */
+    @Test
+    void testBeatsGreedy() {
+        // best fit decreasing fills B with 60 + 40 and A with 60 + 50, using 210
+        // minutes; the best placement is 60 + 60 and 50 + 50, using all 220
+        Conference conf = new Conference("Optimal");
+        Session a = new Session("A", 120);
+        Session b = new Session("B", 100);
+        conf.addSession(a);
+        conf.addSession(b);
+        int[] durations = {60, 60, 50, 50, 40};
+        for (int i = 0; i < durations.length; i++) {
+            conf.addAcceptedItem(new Paper("Author " + i, "Title", durations[i]));
+        }
+        Schedule greedy = BinPackingScheduler.plan(conf, BinPackingScheduler.Strategy.BEST_FIT_DECREASING);
+
+        SessionOptimizer optimizer = new SessionOptimizer(conf);
+        Schedule schedule = optimizer.optimize(10000);
+        assertTrue(optimizer.isOptimal());
+        assertTrue(optimizer.getNodeCount() > 0);
+        assertEquals(220, schedule.getUsedMinutes());
+        assertEquals(0, schedule.getWastedMinutes());
+        assertTrue(schedule.getUsedMinutes() > greedy.getUsedMinutes());
+        assertEquals(1, schedule.getUnplacedCount());
+        assertEquals(40, schedule.getUnplacedMinutes());
+
+        schedule.apply();
+        assertEquals(0, a.getRemainingCapacity());
+        assertEquals(0, b.getRemainingCapacity());
+        assertNull(conf.getAcceptedItem(4).getSession());
+    }
+
+    /**
+     * Tests the optimizer against an exhaustive search on small random
+     * conferences, some of which already have items in sessions.
+     */
+    @Test
+    void testMatchesExhaustiveSearch() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 40; trial++) {
+            Conference conf = new Conference("Trial");
+            int m = 1 + random.nextInt(3);
+            for (int s = 0; s < m; s++) {
+                conf.addSession(new Session("Session " + s, 20 + random.nextInt(101)));
+            }
+            int n = 1 + random.nextInt(8);
+            for (int i = 0; i < n; i++) {
+                conf.addAcceptedItem(new Paper("Author " + i, "Title", 5 + random.nextInt(8) * 5));
+            }
+            if (conf.getSession(0).getRemainingCapacity() >= conf.getAcceptedItem(0).getDuration()) {
+                conf.addItemToSession(0, 0);
+            }
+
+            PackingProblem problem = new PackingProblem(conf);
+            int[] capacities = problem.getCapacities();
+            int[] items = new int[problem.getItemCount()];
+            for (int k = 0; k < items.length; k++) {
+                items[k] = problem.getDuration(k);
+            }
+            int best = exhaustive(items, 0, capacities);
+
+            SessionOptimizer optimizer = new SessionOptimizer(conf);
+            Schedule schedule = optimizer.optimize(10000);
+            assertTrue(optimizer.isOptimal());
+            assertEquals(best, schedule.getPlacedMinutes(), "trial " + trial);
+            schedule.apply();
+            for (int s = 0; s < conf.getSessionCount(); s++) {
+                assertTrue(conf.getSession(s).getRemainingCapacity() >= 0);
+            }
+        }
+    }
+
+    /**
+     * Tests that a search stops when cancelled or out of time and still
+     * returns a placement at least as good as best fit decreasing.
+     */
+    @Test
+    void testTimeBudgetAndCancel() throws InterruptedException {
+        Conference conf = hardConference();
+        long greedy = BinPackingScheduler.plan(conf, BinPackingScheduler.Strategy.BEST_FIT_DECREASING)
+                .getPlacedMinutes();
+
+        SessionOptimizer optimizer = new SessionOptimizer(conf);
+        long start = System.nanoTime();
+        Schedule schedule = optimizer.optimize(100);
+        assertTrue(System.nanoTime() - start < 5000000000L);
+        assertTrue(schedule.getPlacedMinutes() >= greedy);
+
+        SessionOptimizer cancelled = new SessionOptimizer(conf);
+        Thread canceller = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                // cancel right away
+            }
+            cancelled.cancel();
+        });
+        canceller.start();
+        start = System.nanoTime();
+        schedule = cancelled.optimize(60000);
+        canceller.join();
+        assertTrue(System.nanoTime() - start < 10000000000L);
+        assertTrue(schedule.getPlacedMinutes() >= greedy);
+
+        schedule.apply();
+        for (int s = 0; s < conf.getSessionCount(); s++) {
+            assertTrue(conf.getSession(s).getRemainingCapacity() >= 0);
+        }
+        assertThrows(IllegalArgumentException.class, () -> optimizer.optimize(0));
+        assertThrows(IllegalArgumentException.class, () -> new SessionOptimizer(null));
+    }
+
+    /**
+     * Tests that cancelling before a search starts stops it right away with
+     * the best fit decreasing placement, that cancelling stays in effect, and
+     * that cancelling after a search finished does not change its result.
+     */
+    @Test
+    void testCancelBeforeStart() {
+        Conference conf = hardConference();
+        long greedy = BinPackingScheduler.plan(conf, BinPackingScheduler.Strategy.BEST_FIT_DECREASING)
+                .getPlacedMinutes();
+
+        SessionOptimizer optimizer = new SessionOptimizer(conf);
+        assertFalse(optimizer.isOptimal());
+        optimizer.cancel();
+        long start = System.nanoTime();
+        Schedule schedule = optimizer.optimize(60000);
+        assertTrue(System.nanoTime() - start < 5000000000L);
+        assertEquals(greedy, schedule.getPlacedMinutes());
+        assertEquals(0, optimizer.getNodeCount());
+        assertFalse(optimizer.isOptimal());
+        assertEquals(greedy, optimizer.optimize(60000).getPlacedMinutes());
+        assertEquals(0, optimizer.getNodeCount());
+
+        Conference small = new Conference("Small");
+        small.addSession(new Session("A", 120));
+        small.addSession(new Session("B", 100));
+        int[] durations = {60, 60, 50, 50, 40};
+        for (int i = 0; i < durations.length; i++) {
+            small.addAcceptedItem(new Paper("Author " + i, "Title", durations[i]));
+        }
+        SessionOptimizer finished = new SessionOptimizer(small);
+        assertEquals(220, finished.optimize(Long.MAX_VALUE).getPlacedMinutes());
+        assertTrue(finished.isOptimal());
+        finished.cancel();
+        assertTrue(finished.isOptimal());
+    }
+
+    /**
+     * Tests that a search on several threads, which hands parts of the tree
+     * to other threads as they run short of work, still finds the best
+     * placement on conferences large enough to be split.
+     */
+    @Test
+    void testParallelSearch() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random random = new Random(5);
+            long totalNodes = 0;
+            int totalTasks = 0;
+            for (int trial = 0; trial < 8; trial++) {
+                Conference conf = new Conference("Parallel");
+                for (int s = 0; s < 3; s++) {
+                    conf.addSession(new Session("Session " + s, 50 + random.nextInt(71)));
+                }
+                for (int i = 0; i < 13; i++) {
+                    conf.addAcceptedItem(new Paper("Author " + i, "Title", 7 + random.nextInt(40)));
+                }
+                PackingProblem problem = new PackingProblem(conf);
+                int[] items = new int[problem.getItemCount()];
+                for (int k = 0; k < items.length; k++) {
+                    items[k] = problem.getDuration(k);
+                }
+                int best = exhaustive(items, 0, problem.getCapacities());
+
+                SessionOptimizer optimizer = new SessionOptimizer(conf);
+                Schedule schedule = optimizer.optimize(60000, pool);
+                assertTrue(optimizer.isOptimal());
+                assertEquals(best, schedule.getPlacedMinutes(), "trial " + trial);
+                totalNodes += optimizer.getNodeCount();
+                totalTasks += optimizer.getTaskCount();
+            }
+            assertTrue(totalNodes > 20000, "only " + totalNodes + " nodes");
+            // one task per search unless work was handed off
+            assertTrue(totalTasks > 8, "only " + totalTasks + " tasks");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that items longer than every session are skipped rather than
+     * ending the search, both as the longest items and between items that
+     * fit, against an exhaustive search.
+     */
+    @Test
+    void testOversizedItems() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // best fit decreasing places 27; the best is 16 + 13
+            Conference conf = new Conference("Oversized");
+            conf.addSession(new Session("Only", 35));
+            int[] durations = {61, 43, 27, 16, 13};
+            for (int i = 0; i < durations.length; i++) {
+                conf.addAcceptedItem(new Paper("Author " + i, "Title", durations[i]));
+            }
+            SessionOptimizer optimizer = new SessionOptimizer(conf);
+            Schedule schedule = optimizer.optimize(60000, pool);
+            assertTrue(optimizer.isOptimal());
+            assertEquals(29, schedule.getPlacedMinutes());
+            assertEquals(3, schedule.getUnplacedCount());
+
+            Random random = new Random(17);
+            for (int trial = 0; trial < 300; trial++) {
+                conf = new Conference("Trial");
+                int m = 1 + random.nextInt(3);
+                for (int s = 0; s < m; s++) {
+                    conf.addSession(new Session("Session " + s, 10 + random.nextInt(41)));
+                }
+                int n = 1 + random.nextInt(7);
+                for (int i = 0; i < n; i++) {
+                    conf.addAcceptedItem(new Paper("Author " + i, "Title", 5 + random.nextInt(60)));
+                }
+                PackingProblem problem = new PackingProblem(conf);
+                int[] items = new int[problem.getItemCount()];
+                for (int k = 0; k < items.length; k++) {
+                    items[k] = problem.getDuration(k);
+                }
+                int best = exhaustive(items, 0, problem.getCapacities());
+
+                optimizer = new SessionOptimizer(conf);
+                schedule = optimizer.optimize(60000, pool);
+                assertTrue(optimizer.isOptimal());
+                assertEquals(best, schedule.getPlacedMinutes(), "trial " + trial);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Creates a conference whose best placement is hard to prove.
+     *
+     * @return a conference of many odd-sized papers and sessions
+     */
+    private static Conference hardConference() {
+        Random random = new Random(3);
+        Conference conf = new Conference("Hard");
+        for (int s = 0; s < 25; s++) {
+            conf.addSession(new Session(String.format("Session %02d", s), 61 + random.nextInt(60)));
+        }
+        for (int i = 0; i < 120; i++) {
+            conf.addAcceptedItem(new Paper(String.format("Author %03d", i), "Title", 7 + random.nextInt(50)));
+        }
+        return conf;
+    }
+
+    /**
+     * Returns the most minutes that can be placed by trying every placement.
+     *
+     * @param items the item durations
+     * @param k the next item to place
+     * @param capacities the remaining capacity of each session
+     * @return the most minutes the remaining items can fill
+     */
+    private static int exhaustive(int[] items, int k, int[] capacities) {
+        if (k == items.length) {
+            return 0;
+        }
+        int best = exhaustive(items, k + 1, capacities);
+        for (int s = 0; s < capacities.length; s++) {
+            if (capacities[s] >= items[k]) {
+                capacities[s] -= items[k];
+                best = Math.max(best, items[k] + exhaustive(items, k + 1, capacities));
+                capacities[s] += items[k];
+            }
+        }
+        return best;
+    }
+}
@@ -119,6 +119,49 @@ class SessionTest {
         assertEquals(25, session.getRemainingCapacity());
     }
 
+    /**
+     * Tests that the used capacity follows items being added, removed, and
+     * having their durations changed.
+     */
+    @Test
+    void testGetUsedCapacity() {
+        assertEquals(0, session.getUsedCapacity());
+        session.addAcceptedItem(item); // 15 minutes
+        Paper paper2 = new Paper("Bob Smith", "ML Paper", 20);
+        session.addAcceptedItem(paper2);
+        assertEquals(35, session.getUsedCapacity());
+        assertEquals(25, session.getRemainingCapacity());
+
+        paper2.setDuration(30);
+        assertEquals(45, session.getUsedCapacity());
+        assertEquals(15, session.getRemainingCapacity());
+
+        session.removeAcceptedItem(0);
+        assertEquals(30, session.getUsedCapacity());
+        assertEquals(30, session.getRemainingCapacity());
+
+        // changing an item that is no longer in the session does not affect it
+        item.setDuration(50);
+        assertEquals(30, session.getUsedCapacity());
+        session.removeAcceptedItem(0);
+        assertEquals(0, session.getUsedCapacity());
+        assertEquals(60, session.getRemainingCapacity());
+    }
+
+    /**
+     * Tests getting and setting the time slot.
+     */
+    @Test
+    void testGetAndSetTimeSlot() {
+        assertEquals(-1, session.getTimeSlot());
+        session.setTimeSlot(3);
+        assertEquals(3, session.getTimeSlot());
+        session.setTimeSlot(-1);
+        assertEquals(-1, session.getTimeSlot());
+        assertThrows(IllegalArgumentException.class, () -> session.setTimeSlot(-2));
+        assertEquals(-1, session.getTimeSlot());
+    }
+
     /**
      * Tests the compareTo method.
      */
@@ -0,0 +1,251 @@
+package edu.ncsu.csc216.wolf_proceedings.model.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the SkipSortedList class.
+ * Tests adding, removing, retrieving, and searching
+ * elements in a skip list.
+ *
+ * @author Vamsi Gaddipati
+ */
+class SkipSortedListTest {
+
+    /** The list used in the tests */
+    private SkipSortedList<String> list;
+
+    /**
+     * Sets up a new SkipSortedList before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        list = new SkipSortedList<>();
+    }
+
+    /**
+     * Tests adding elements and verifying sorted order.
+     */
+    @Test
+    void testAdd() {
+        list.add("Charlie");
+        list.add("Alice");
+        list.add("Bob");
+
+        assertEquals("Alice", list.get(0));
+        assertEquals("Bob", list.get(1));
+        assertEquals("Charlie", list.get(2));
+    }
+
+    /**
+     * Tests adding enough elements to build several levels of links.
+     */
+    @Test
+    void testAddMany() {
+        for (int i = 99; i >= 0; i--) {
+            list.add(String.format("%03d", i));
+        }
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.format("%03d", i), list.get(i));
+            assertEquals(i, list.indexOf(String.format("%03d", i)));
+        }
+    }
+
+    /**
+     * Tests removing elements by index.
+     */
+    @Test
+    void testRemove() {
+        list.add("Alice");
+        list.add("Bob");
+        list.add("Charlie");
+
+        String removed = list.remove(1);
+        assertEquals("Bob", removed);
+        assertEquals(2, list.size());
+        assertEquals("Alice", list.get(0));
+        assertEquals("Charlie", list.get(1));
+
+        removed = list.remove(0);
+        assertEquals("Alice", removed);
+        assertEquals("Charlie", list.get(0));
+        assertEquals(1, list.size());
+    }
+
+    /**
+     * Tests checking whether the list contains elements.
+     */
+    @Test
+    void testContains() {
+        list.add("Alice");
+        list.add("Bob");
+
+        assertTrue(list.contains("Alice"));
+        assertTrue(list.contains("Bob"));
+        assertFalse(list.contains("Charlie"));
+        assertFalse(list.contains(null));
+    }
+
+    /**
+     * Tests iterating from every index, including the size of the list, and
+     * that an iterator started part way through still fails fast.
+     */
+    @Test
+    void testIteratorFromIndex() {
+        int n = 50;
+        for (int i = 0; i < n; i++) {
+            list.add(String.format("%03d", i * 37 % n));
+        }
+        for (int start = 0; start <= n; start++) {
+            Iterator<String> it = list.iterator(start);
+            for (int i = start; i < n; i++) {
+                assertTrue(it.hasNext());
+                assertEquals(String.format("%03d", i), it.next());
+            }
+            assertFalse(it.hasNext());
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.iterator(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.iterator(n + 1));
+
+        Iterator<String> it = list.iterator(10);
+        assertEquals("010", it.next());
+        list.add("100");
+        assertThrows(ConcurrentModificationException.class, () -> it.next());
+    }
+
+    /**
+     * Tests retrieving the index of an element.
+     */
+    @Test
+    void testIndexOf() {
+        list.add("Alice");
+        list.add("Bob");
+        list.add("Charlie");
+
+        assertEquals(0, list.indexOf("Alice"));
+        assertEquals(1, list.indexOf("Bob"));
+        assertEquals(2, list.indexOf("Charlie"));
+        assertEquals(-1, list.indexOf("David"));
+        assertEquals(-1, list.indexOf("Aaron"));
+        assertEquals(-1, list.indexOf(null));
+    }
+
+    /**
+     * Tests adding null and duplicate elements.
+     */
+    @Test
+    void testAddExceptions() {
+        assertThrows(NullPointerException.class, () -> list.add(null));
+        list.add("Alice");
+        assertThrows(IllegalArgumentException.class, () -> list.add("Alice"));
+        assertEquals(1, list.size());
+    }
+
+    /**
+     * Tests that get() and remove() throw IndexOutOfBoundsException.
+     */
+    @Test
+    void testIndexOutOfBounds() {
+        list.add("Alice");
+        list.add("Bob");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+    }
+
+    /**
+     * Tests interleaved adds and removes against a simple reference list.
+     */
+    @Test
+    void testMixedOperations() {
+        List<String> expected = new ArrayList<>();
+        Random random = new Random(216);
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                String value = String.format("%05d", random.nextInt(10000));
+                if (!expected.contains(value)) {
+                    list.add(value);
+                    expected.add(value);
+                    Collections.sort(expected);
+                }
+            } else {
+                int idx = random.nextInt(expected.size());
+                assertEquals(expected.remove(idx), list.remove(idx));
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+            assertEquals(i, list.indexOf(expected.get(i)));
+        }
+    }
+
+    /**
+     * Tests iterating over the list in sorted order.
+     */
+    @Test
+    void testIterator() {
+        list.add("Charlie");
+        list.add("Alice");
+        list.add("Bob");
+
+        Iterator<String> it = list.iterator();
+        assertEquals("Alice", it.next());
+        assertEquals("Bob", it.next());
+        assertEquals("Charlie", it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, () -> it.next());
+        assertThrows(UnsupportedOperationException.class, () -> it.remove());
+
+        StringBuilder sb = new StringBuilder();
+        list.forEach(sb::append);
+        assertEquals("AliceBobCharlie", sb.toString());
+        assertEquals(3, list.spliterator().getExactSizeIfKnown());
+    }
+
+    /**
+     * Tests that the iterator fails fast when the list is modified.
+     */
+    @Test
+    void testIteratorConcurrentModification() {
+        list.add("Alice");
+        list.add("Bob");
+
+        Iterator<String> it = list.iterator();
+        it.next();
+        list.add("Charlie");
+        assertThrows(ConcurrentModificationException.class, () -> it.next());
+    }
+
+    /**
+     * Tests adding many elements at once.
+     */
+    @Test
+    void testAddAll() {
+        list.add("Bob");
+        list.add("Dave");
+        list.addAll(Arrays.asList("Erin", "Alice", "bob", "Carol", "BOB"));
+
+        String[] expected = {"Alice", "BOB", "Bob", "Carol", "Dave", "Erin", "bob"};
+        assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+            assertEquals(i, list.indexOf(expected[i]));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package edu.ncsu.csc216.wolf_proceedings.model.util;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Compares the ISortedList implementations at 1k, 10k, and 100k elements.
+ * For each size it times adding elements in random order, reading every
+ * element by index, looking every element up with indexOf, and removing
+ * elements at random indexes until the list is empty. This is not a unit test;
+ * run its main method directly.
+ *
+ * @author Vamsi Gaddipati
+ */
+public class SortedListBenchmark {
+
+    /** The list sizes to measure */
+    private static final int[] SIZES = {1000, 10000, 100000};
+
+    /**
+     * Runs the benchmark and prints one line per implementation and size.
+     *
+     * @param args not used
+     */
+    public static void main(String[] args) {
+        System.out.printf("%-16s %8s %10s %10s %10s %10s%n",
+                "list", "n", "add ms", "get ms", "indexOf ms", "remove ms");
+        for (int n : SIZES) {
+            run("SortedList", SortedList::new, n);
+            run("ArraySortedList", ArraySortedList::new, n);
+            run("SkipSortedList", SkipSortedList::new, n);
+            run("TreeSortedList", TreeSortedList::new, n);
+        }
+    }
+
+    /**
+     * Times each operation on a new list of the given size.
+     *
+     * @param name the name to print for the implementation
+     * @param factory creates an empty list
+     * @param n the number of elements to use
+     */
+    private static void run(String name, Supplier<ISortedList<Integer>> factory, int n) {
+        Random random = new Random(n);
+        Integer[] values = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+
+        ISortedList<Integer> list = factory.get();
+        long start = System.nanoTime();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        long added = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += list.get(i);
+        }
+        long read = System.nanoTime();
+        for (Integer value : values) {
+            sum += list.indexOf(value);
+        }
+        long searched = System.nanoTime();
+        while (list.size() > 0) {
+            sum += list.remove(random.nextInt(list.size()));
+        }
+        long removed = System.nanoTime();
+
+        System.out.printf("%-16s %8d %10.1f %10.1f %10.1f %10.1f%s%n", name, n,
+                (added - start) / 1e6, (read - added) / 1e6,
+                (searched - read) / 1e6, (removed - searched) / 1e6,
+                sum == 0 ? " " : "");
+    }
+}
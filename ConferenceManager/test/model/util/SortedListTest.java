@@ -2,6 +2,11 @@ package edu.ncsu.csc216.wolf_proceedings.model.util;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -72,6 +77,32 @@ class SortedListTest {
         assertEquals("Bob", list.get(1));
     }
 
+    /**
+     * Tests that get returns the right elements when reading forward, backward,
+     * and after the list changes between reads.
+     */
+    @Test
+    void testGetAfterChanges() {
+        list.add("Bob");
+        list.add("Dave");
+        list.add("Frank");
+
+        assertEquals("Dave", list.get(1));
+        assertEquals("Frank", list.get(2));
+        assertEquals("Bob", list.get(0));
+        assertEquals("Dave", list.get(1));
+
+        list.add("Alice");
+        assertEquals("Bob", list.get(1));
+        assertEquals("Frank", list.get(3));
+        list.remove(1);
+        assertEquals("Dave", list.get(1));
+        assertEquals("Frank", list.get(2));
+        list.addAll(Arrays.asList("Carol", "Eve"));
+        assertEquals("Dave", list.get(2));
+        assertEquals("Eve", list.get(3));
+    }
+
     /**
      * Tests checking whether the list contains elements.
      */
@@ -99,6 +130,33 @@ class SortedListTest {
         assertEquals(1, list.size());
     }
 
+    /**
+     * Tests iterating from every index, including the size of the list, and
+     * that an iterator started part way through still fails fast.
+     */
+    @Test
+    void testIteratorFromIndex() {
+        int n = 50;
+        for (int i = 0; i < n; i++) {
+            list.add(String.format("%03d", i * 37 % n));
+        }
+        for (int start = 0; start <= n; start++) {
+            Iterator<String> it = list.iterator(start);
+            for (int i = start; i < n; i++) {
+                assertTrue(it.hasNext());
+                assertEquals(String.format("%03d", i), it.next());
+            }
+            assertFalse(it.hasNext());
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.iterator(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.iterator(n + 1));
+
+        Iterator<String> it = list.iterator(10);
+        assertEquals("010", it.next());
+        list.add("100");
+        assertThrows(ConcurrentModificationException.class, () -> it.next());
+    }
+
     /**
      * Tests retrieving the index of an element.
      */
@@ -139,4 +197,65 @@ class SortedListTest {
         assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
         assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
     }
+
+    /**
+     * Tests iterating over the list in sorted order.
+     */
+    @Test
+    void testIterator() {
+        list.add("Charlie");
+        list.add("Alice");
+        list.add("Bob");
+
+        Iterator<String> it = list.iterator();
+        assertEquals("Alice", it.next());
+        assertEquals("Bob", it.next());
+        assertEquals("Charlie", it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, () -> it.next());
+        assertThrows(UnsupportedOperationException.class, () -> it.remove());
+
+        StringBuilder sb = new StringBuilder();
+        list.forEach(sb::append);
+        assertEquals("AliceBobCharlie", sb.toString());
+        assertEquals(3, list.spliterator().getExactSizeIfKnown());
+    }
+
+    /**
+     * Tests that the iterator fails fast when the list is modified.
+     */
+    @Test
+    void testIteratorConcurrentModification() {
+        list.add("Alice");
+        list.add("Bob");
+
+        Iterator<String> it = list.iterator();
+        it.next();
+        list.add("Charlie");
+        assertThrows(ConcurrentModificationException.class, () -> it.next());
+    }
+
+    /**
+     * Tests adding many elements at once, and that invalid batches leave
+     * the list unchanged.
+     */
+    @Test
+    void testAddAll() {
+        list.add("Bob");
+        list.add("Dave");
+        list.addAll(Arrays.asList("Erin", "Alice", "bob", "Carol", "BOB"));
+
+        String[] expected = {"Alice", "BOB", "Bob", "Carol", "Dave", "Erin", "bob"};
+        assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+            assertEquals(i, list.indexOf(expected[i]));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(Arrays.asList("Zed", "Alice")));
+        assertThrows(IllegalArgumentException.class, () -> list.addAll(Arrays.asList("Zed", "Zed")));
+        assertThrows(NullPointerException.class, () -> list.addAll(Arrays.asList("Zed", null)));
+        assertEquals(expected.length, list.size());
+        assertFalse(list.contains("Zed"));
+    }
 }